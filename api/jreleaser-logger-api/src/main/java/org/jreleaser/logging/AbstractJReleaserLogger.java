@@ -18,86 +18,154 @@
 package org.jreleaser.logging;
 
 import java.io.PrintWriter;
-import java.util.Stack;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
+ * Base class for loggers.
+ * <p>
+ * Prefix and indentation are kept as an immutable {@code Scope}, which makes this logger safe
+ * to use from multiple threads. Tasks that run concurrently should log through a
+ * {@link #child(String) child} so that their prefixes and indentation do not mix. Trace
+ * entries are written without blocking concurrent callers.
+ *
  * @author Andres Almiray
  * @since 0.1.0
  */
 public abstract class AbstractJReleaserLogger implements JReleaserLogger {
-    private final Stack<String> prefix = new Stack<>();
-    private final PrintWriter tracer;
-    private String indent = "";
+    private final AtomicReference<Scope> scope = new AtomicReference<>(Scope.ROOT);
+    private final ThreadLocal<Scope> scopeOverride = new ThreadLocal<>();
+    private final TraceBuffer traceBuffer;
 
     protected AbstractJReleaserLogger(PrintWriter tracer) {
-        this.tracer = tracer;
+        this.traceBuffer = new TraceBuffer(tracer);
     }
 
     protected boolean isIndented() {
-        return !indent.equals("");
+        return currentScope().isIndented();
     }
 
+    /**
+     * Text printed to the returned writer is written to the tracer as trace entries, one per
+     * line, in order with entries traced by other means.
+     */
     @Override
     public PrintWriter getTracer() {
-        return tracer;
+        return traceBuffer.getWriter();
+    }
+
+    @Override
+    public JReleaserLogger child(String prefix) {
+        return new ScopedJReleaserLogger(this, currentScope().push(prefix));
     }
 
     @Override
     public void reset() {
-        this.prefix.clear();
-        this.indent = "";
+        scope.set(Scope.ROOT);
+        traceBuffer.flush();
     }
 
     @Override
     public void setPrefix(String prefix) {
-        this.prefix.push(prefix);
+        scope.updateAndGet(s -> s.push(prefix));
     }
 
     @Override
     public void restorePrefix() {
-        if (!this.prefix.isEmpty()) {
-            this.prefix.pop();
-        }
+        scope.updateAndGet(Scope::pop);
     }
 
     @Override
     public void increaseIndent() {
-        indent += "  ";
+        scope.updateAndGet(Scope::increaseIndent);
     }
 
     @Override
     public void decreaseIndent() {
-        if (indent.length() > 0) {
-            indent = indent.substring(0, indent.length() - 2);
-        }
+        scope.updateAndGet(Scope::decreaseIndent);
     }
 
     protected String formatMessage(String message) {
-        return indent + (!prefix.isEmpty() ? "[" + prefix.peek() + "] " : "") + message;
+        return currentScope().format(message);
     }
 
     @Override
     public void trace(String message) {
-        tracer.println(message);
-        tracer.flush();
+        traceBuffer.append(message);
     }
 
     @Override
     public void trace(String message, Throwable throwable) {
-        tracer.println(message);
-        printThrowable(throwable);
-        tracer.flush();
+        if (null != throwable) {
+            traceBuffer.append(message, throwable);
+        } else {
+            traceBuffer.append(message);
+        }
     }
 
     @Override
     public void trace(Throwable throwable) {
-        printThrowable(throwable);
+        if (null != throwable) {
+            traceBuffer.append(null, throwable);
+        }
     }
 
-    private void printThrowable(Throwable throwable) {
-        if (null != throwable) {
-            throwable.printStackTrace(tracer);
-            tracer.flush();
+    void inScope(Scope scope, Runnable runnable) {
+        Scope previous = scopeOverride.get();
+        scopeOverride.set(scope);
+        try {
+            runnable.run();
+        } finally {
+            if (null != previous) {
+                scopeOverride.set(previous);
+            } else {
+                scopeOverride.remove();
+            }
+        }
+    }
+
+    private Scope currentScope() {
+        Scope override = scopeOverride.get();
+        return null != override ? override : scope.get();
+    }
+
+    static final class Scope {
+        static final Scope ROOT = new Scope(null, null, "");
+
+        private final String prefix;
+        private final Scope previous;
+        private final String indent;
+
+        private Scope(String prefix, Scope previous, String indent) {
+            this.prefix = prefix;
+            this.previous = previous;
+            this.indent = indent;
+        }
+
+        Scope push(String prefix) {
+            if (null == prefix) return this;
+            return new Scope(prefix, this, indent);
+        }
+
+        Scope pop() {
+            if (null == previous) return this;
+            return new Scope(previous.prefix, previous.previous, indent);
+        }
+
+        Scope increaseIndent() {
+            return new Scope(prefix, previous, indent + "  ");
+        }
+
+        Scope decreaseIndent() {
+            if (indent.length() == 0) return this;
+            return new Scope(prefix, previous, indent.substring(0, indent.length() - 2));
+        }
+
+        boolean isIndented() {
+            return !indent.equals("");
+        }
+
+        String format(String message) {
+            return indent + (null != prefix ? "[" + prefix + "] " : "") + message;
         }
     }
 }
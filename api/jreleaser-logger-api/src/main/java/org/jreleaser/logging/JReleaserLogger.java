@@ -27,6 +27,15 @@ import java.io.PrintWriter;
 public interface JReleaserLogger {
     PrintWriter getTracer();
 
+    /**
+     * Creates a logger for a task that may run concurrently with others. The child starts with
+     * this logger's current prefix and indentation plus the given prefix, if not {@code null}.
+     * Changes to prefix and indentation made through the child only affect the child.
+     *
+     * @since 1.4.0
+     */
+    JReleaserLogger child(String prefix);
+
     void reset();
 
     void increaseIndent();
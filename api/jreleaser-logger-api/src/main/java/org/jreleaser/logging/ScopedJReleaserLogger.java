@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.logging;
+
+import java.io.PrintWriter;
+
+/**
+ * Child logger bound to a task. Prefix and indentation are captured when the child is created
+ * and changes made through the child are not visible to its parent nor to other children.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+final class ScopedJReleaserLogger implements JReleaserLogger {
+    private final AbstractJReleaserLogger delegate;
+    private final AbstractJReleaserLogger.Scope initial;
+    private volatile AbstractJReleaserLogger.Scope scope;
+
+    ScopedJReleaserLogger(AbstractJReleaserLogger delegate, AbstractJReleaserLogger.Scope scope) {
+        this.delegate = delegate;
+        this.initial = scope;
+        this.scope = scope;
+    }
+
+    @Override
+    public JReleaserLogger child(String prefix) {
+        return new ScopedJReleaserLogger(delegate, scope.push(prefix));
+    }
+
+    @Override
+    public PrintWriter getTracer() {
+        return delegate.getTracer();
+    }
+
+    @Override
+    public void reset() {
+        scope = initial;
+    }
+
+    @Override
+    public void increaseIndent() {
+        scope = scope.increaseIndent();
+    }
+
+    @Override
+    public void decreaseIndent() {
+        scope = scope.decreaseIndent();
+    }
+
+    @Override
+    public void setPrefix(String prefix) {
+        scope = scope.push(prefix);
+    }
+
+    @Override
+    public void restorePrefix() {
+        scope = scope.pop();
+    }
+
+    @Override
+    public void debug(String message) {
+        delegate.inScope(scope, () -> delegate.debug(message));
+    }
+
+    @Override
+    public void info(String message) {
+        delegate.inScope(scope, () -> delegate.info(message));
+    }
+
+    @Override
+    public void warn(String message) {
+        delegate.inScope(scope, () -> delegate.warn(message));
+    }
+
+    @Override
+    public void error(String message) {
+        delegate.inScope(scope, () -> delegate.error(message));
+    }
+
+    @Override
+    public void trace(String message) {
+        delegate.trace(message);
+    }
+
+    @Override
+    public void debug(String message, Object... args) {
+        delegate.inScope(scope, () -> delegate.debug(message, args));
+    }
+
+    @Override
+    public void info(String message, Object... args) {
+        delegate.inScope(scope, () -> delegate.info(message, args));
+    }
+
+    @Override
+    public void warn(String message, Object... args) {
+        delegate.inScope(scope, () -> delegate.warn(message, args));
+    }
+
+    @Override
+    public void error(String message, Object... args) {
+        delegate.inScope(scope, () -> delegate.error(message, args));
+    }
+
+    @Override
+    public void debug(String message, Throwable throwable) {
+        delegate.inScope(scope, () -> delegate.debug(message, throwable));
+    }
+
+    @Override
+    public void info(String message, Throwable throwable) {
+        delegate.inScope(scope, () -> delegate.info(message, throwable));
+    }
+
+    @Override
+    public void warn(String message, Throwable throwable) {
+        delegate.inScope(scope, () -> delegate.warn(message, throwable));
+    }
+
+    @Override
+    public void error(String message, Throwable throwable) {
+        delegate.inScope(scope, () -> delegate.error(message, throwable));
+    }
+
+    @Override
+    public void trace(String message, Throwable throwable) {
+        delegate.trace(message, throwable);
+    }
+
+    @Override
+    public void trace(Throwable throwable) {
+        delegate.trace(throwable);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends trace entries to a {@code PrintWriter}.
+ * <p>
+ * Entries are queued and written in the order they were enqueued by whichever caller finds the
+ * tracer idle, callers that find it busy return right away and leave their entries to the
+ * current writer. No thread is owned by this buffer thus there is nothing to stop. Each entry
+ * is written as a unit, stack traces included, so entries from concurrent callers do not interleave.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+final class TraceBuffer {
+    private final PrintWriter tracer;
+    private final Queue<String> entries = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final PrintWriter writer = new PrintWriter(new EntryWriter());
+
+    TraceBuffer(PrintWriter tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * A writer whose output is appended to this buffer, one entry per line.
+     */
+    PrintWriter getWriter() {
+        return writer;
+    }
+
+    void append(String message) {
+        entries.add(message);
+        tryDrain();
+    }
+
+    void append(String message, Throwable throwable) {
+        StringWriter s = new StringWriter();
+        PrintWriter w = new PrintWriter(s);
+        if (null != message) w.println(message);
+        throwable.printStackTrace(w);
+        w.flush();
+        // printStackTrace always ends with a line separator
+        String entry = s.toString();
+        entries.add(entry.substring(0, entry.length() - System.lineSeparator().length()));
+        tryDrain();
+    }
+
+    /**
+     * Writes all pending entries before returning.
+     */
+    void flush() {
+        drainLock.lock();
+        try {
+            drain();
+        } finally {
+            drainLock.unlock();
+        }
+        tryDrain();
+    }
+
+    private void tryDrain() {
+        // entries enqueued while the lock is being released are picked up by the next round
+        while (!entries.isEmpty() && drainLock.tryLock()) {
+            try {
+                drain();
+            } finally {
+                drainLock.unlock();
+            }
+        }
+    }
+
+    private void drain() {
+        String entry;
+        boolean written = false;
+        while (null != (entry = entries.poll())) {
+            tracer.println(entry);
+            written = true;
+        }
+        if (written) tracer.flush();
+    }
+
+    private final class EntryWriter extends Writer {
+        private final StringBuilder line = new StringBuilder();
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            synchronized (lock) {
+                for (int i = off; i < off + len; i++) {
+                    char c = cbuf[i];
+                    if (c == '\n') {
+                        int end = line.length();
+                        if (end > 0 && line.charAt(end - 1) == '\r') line.setLength(end - 1);
+                        entries.add(line.toString());
+                        line.setLength(0);
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+            tryDrain();
+        }
+
+        @Override
+        public void flush() {
+            synchronized (lock) {
+                if (line.length() > 0) {
+                    entries.add(line.toString());
+                    line.setLength(0);
+                }
+            }
+            TraceBuffer.this.flush();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.jreleaser.bundle.RB;
 
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
 import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
@@ -54,6 +55,25 @@ public final class ExtensionManagerHolder {
         return EXTENSION_MANAGER_THREAD_LOCAL.get();
     }
 
+    /**
+     * Wraps a task that runs on another thread so that it sees the extension manager
+     * (and the extensions it loaded) of the calling thread.
+     *
+     * @since 1.4.0
+     */
+    public static <V> Callable<V> inherit(Callable<V> task) {
+        ExtensionManager extensionManager = get();
+        return () -> {
+            ExtensionManager previous = EXTENSION_MANAGER_THREAD_LOCAL.get();
+            EXTENSION_MANAGER_THREAD_LOCAL.set(extensionManager);
+            try {
+                return task.call();
+            } finally {
+                EXTENSION_MANAGER_THREAD_LOCAL.set(previous);
+            }
+        };
+    }
+
     private static ServiceLoader<ExtensionManager> resolveServiceLoader() {
         // TODO: review when moving baseline to JDK11+
         // Check if handlers must be loaded from a ModuleLayer
@@ -17,6 +17,8 @@
  */
 package org.jreleaser.model.api.hooks;
 
+import org.jreleaser.util.ExecutionMetrics;
+
 import java.util.Locale;
 
 import static java.util.Objects.requireNonNull;
@@ -31,15 +33,21 @@ public class ExecutionEvent {
     private final Type type;
     private final String name;
     private final Throwable failure;
+    private final ExecutionMetrics metrics;
 
     private ExecutionEvent(Type type, String name) {
         this(type, name, null);
     }
 
     private ExecutionEvent(Type type, String name, Throwable failure) {
+        this(type, name, failure, null);
+    }
+
+    private ExecutionEvent(Type type, String name, Throwable failure, ExecutionMetrics metrics) {
         this.type = requireNonNull(type, "'type' must not be null");
         this.name = requireNonBlank(name, "'name' must not be blank");
         this.failure = failure;
+        this.metrics = metrics;
     }
 
     public Type getType() {
@@ -54,6 +62,22 @@ public class ExecutionEvent {
         return failure;
     }
 
+    /**
+     * Resources consumed by the step, available on {@code SUCCESS} and {@code FAILURE} events.
+     *
+     * @since 1.4.0
+     */
+    public ExecutionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @since 1.4.0
+     */
+    public ExecutionEvent withMetrics(ExecutionMetrics metrics) {
+        return new ExecutionEvent(type, name, failure, metrics);
+    }
+
     public static ExecutionEvent before(String name) {
         return new ExecutionEvent(Type.BEFORE, name);
     }
@@ -55,6 +55,8 @@ public interface Signing extends Domain, Activatable {
 
     boolean isChecksums();
 
+    Integer getParallelism();
+
     Command getCommand();
 
     Cosign getCosign();
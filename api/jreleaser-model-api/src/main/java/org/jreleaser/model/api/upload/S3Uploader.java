@@ -43,4 +43,18 @@ public interface S3Uploader extends Uploader {
     String getEndpoint();
 
     Map<String, String> getHeaders();
+
+    /**
+     * Size of each part of a multipart upload, in MiB.
+     *
+     * @since 1.4.0
+     */
+    Integer getPartSize();
+
+    /**
+     * Number of parts of a single artifact uploaded at the same time.
+     *
+     * @since 1.4.0
+     */
+    Integer getPartConcurrency();
 }
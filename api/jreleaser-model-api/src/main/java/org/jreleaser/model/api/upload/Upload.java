@@ -42,4 +42,8 @@ public interface Upload extends Domain, Activatable {
     Map<String, ? extends ScpUploader> getScp();
 
     Map<String, ? extends SftpUploader> getSftp();
+
+    Integer getParallelism();
+
+    Integer getConnections();
 }
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.mustache;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares compiling a template on every call with reusing a cached compiled template.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TemplateCacheBenchmark {
+    private static final String TEMPLATE = "{{projectName}}-{{projectVersion}}-{{platform}}.{{archiveFormat}}";
+
+    private TemplateCache cache;
+    private Map<String, Object> props;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cache = new TemplateCache(new DefaultMustacheFactory(), 1024);
+        props = new LinkedHashMap<>();
+        props.put("projectName", "app");
+        props.put("projectVersion", "1.2.3");
+        props.put("platform", "linux-x86_64");
+        props.put("archiveFormat", "zip");
+    }
+
+    @Benchmark
+    public String compileEveryCall() {
+        Mustache mustache = new DefaultMustacheFactory().compile(new StringReader(TEMPLATE), UUID.randomUUID().toString());
+        return execute(mustache);
+    }
+
+    @Benchmark
+    public String cached() {
+        return execute(cache.compile(null, TEMPLATE));
+    }
+
+    private String execute(Mustache mustache) {
+        StringWriter writer = new StringWriter();
+        mustache.execute(writer, props);
+        return writer.toString();
+    }
+}
@@ -18,9 +18,9 @@
 package org.jreleaser.mustache;
 
 import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.FragmentKey;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheException;
-import com.github.mustachejava.MustacheFactory;
 import com.github.mustachejava.TemplateFunction;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.ExtensionManagerHolder;
@@ -28,13 +28,12 @@ import org.jreleaser.extensions.api.mustache.MustacheExtensionPoint;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.UUID;
 
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -44,24 +43,24 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public final class MustacheUtils {
+    // compiled templates are shared by the whole run, see TemplateCache
+    private static final TemplateCache TEMPLATES = new TemplateCache(new MyMustacheFactory(), 1024);
+
     private MustacheUtils() {
         //noop
     }
 
     private static Map<String, String> envVars() {
-        Map<String, String> vars = new LinkedHashMap<>();
-        System.getenv().forEach((k, v) -> {
-            if (!k.startsWith("JRELEASER_")) {
-                vars.put("Env." + k, v);
-            }
-        });
-        return vars;
+        // the environment does not change during a run, it is read once
+        return EnvVars.VARS;
     }
 
     public static String applyTemplate(Reader reader, Map<String, Object> context, String templateName) {
+        return execute(TEMPLATES.compile(templateName, read(reader, templateName)), context);
+    }
+
+    private static String execute(Mustache mustache, Map<String, Object> context) {
         StringWriter input = new StringWriter();
-        MustacheFactory mf = new MyMustacheFactory();
-        Mustache mustache = mf.compile(reader, templateName);
         context.putAll(envVars());
         applyFunctions(context);
         mustache.execute(input, decorate(context));
@@ -69,6 +68,19 @@ public final class MustacheUtils {
         return input.toString();
     }
 
+    private static String read(Reader reader, String templateName) {
+        StringBuilder b = new StringBuilder();
+        char[] buffer = new char[8192];
+        try {
+            for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+                b.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new MustacheException(RB.$("ERROR_mustache_read_template", templateName), e);
+        }
+        return b.toString();
+    }
+
     private static Map<String, Object> decorate(Map<String, Object> context) {
         for (Map.Entry<String, Object> e : new LinkedHashSet<>(context.entrySet())) {
             Object value = e.getValue();
@@ -89,15 +101,15 @@ public final class MustacheUtils {
     }
 
     public static String applyTemplate(Reader reader, Map<String, Object> context) {
-        return applyTemplate(reader, context, UUID.randomUUID().toString()).trim();
+        return execute(TEMPLATES.compile(null, read(reader, null)), context).trim();
     }
 
     public static String applyTemplate(String template, Map<String, Object> context, String templateName) {
-        return applyTemplate(new StringReader(template), context, templateName);
+        return execute(TEMPLATES.compile(templateName, template), context);
     }
 
     public static String applyTemplate(String template, Map<String, Object> context) {
-        return applyTemplate(new StringReader(template), context, UUID.randomUUID().toString()).trim();
+        return execute(TEMPLATES.compile(null, template), context).trim();
     }
 
     public static void applyTemplates(Map<String, Object> props, Map<String, Object> templates) {
@@ -124,7 +136,29 @@ public final class MustacheUtils {
             .forEach(ep -> ep.apply(props));
     }
 
+    private static final class EnvVars {
+        private static final Map<String, String> VARS = collect();
+
+        private static Map<String, String> collect() {
+            Map<String, String> vars = new LinkedHashMap<>();
+            System.getenv().forEach((k, v) -> {
+                if (!k.startsWith("JRELEASER_")) {
+                    vars.put("Env." + k, v);
+                }
+            });
+            return Collections.unmodifiableMap(vars);
+        }
+    }
+
     private static class MyMustacheFactory extends DefaultMustacheFactory {
+        @Override
+        public Mustache getFragment(FragmentKey templateKey) {
+            // lambda fragments carry property values, keep them out of the shared factory
+            Mustache mustache = getFragmentCacheFunction().apply(templateKey);
+            mustache.init();
+            return mustache;
+        }
+
         @Override
         public void encode(String value, Writer writer) {
             if (value.startsWith("!!") && value.endsWith("!!")) {
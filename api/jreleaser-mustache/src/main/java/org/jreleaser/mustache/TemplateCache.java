@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.mustache;
+
+import com.github.mustachejava.Mustache;
+import com.github.mustachejava.MustacheFactory;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Bounded cache of compiled templates keyed by template text and name.
+ * <p>
+ * Compiled {@code Mustache} instances are immutable and may be executed concurrently.
+ * Least recently used entries are evicted once the capacity is exceeded.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+final class TemplateCache {
+    private final MustacheFactory factory;
+    private final Map<Key, Mustache> cache;
+
+    TemplateCache(MustacheFactory factory, int capacity) {
+        this.factory = factory;
+        this.cache = new LinkedHashMap<Key, Mustache>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Mustache> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled form of the given template.
+     *
+     * @param name     the template name, may be {@code null} for anonymous templates
+     * @param template the template text
+     */
+    Mustache compile(String name, String template) {
+        Key key = new Key(name, template);
+        synchronized (cache) {
+            Mustache mustache = cache.get(key);
+            if (null != mustache) return mustache;
+        }
+
+        // compile outside the lock, racing threads produce equivalent instances
+        Mustache mustache = factory.compile(new StringReader(template), null != name ? name : UUID.randomUUID().toString());
+        synchronized (cache) {
+            Mustache previous = cache.putIfAbsent(key, mustache);
+            return null != previous ? previous : mustache;
+        }
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static final class Key {
+        private final String name;
+        private final String template;
+        private final int hash;
+
+        private Key(String name, String template) {
+            this.name = name;
+            this.template = template;
+            this.hash = Objects.hash(name, template);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return hash == that.hash &&
+                Objects.equals(name, that.name) &&
+                template.equals(that.template);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.mustache;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class TemplateCacheTest {
+    @Test
+    public void reusesCompiledTemplates() {
+        // given:
+        TemplateCache cache = new TemplateCache(new DefaultMustacheFactory(), 2);
+
+        // when:
+        Mustache first = cache.compile(null, "{{foo}}");
+        Mustache second = cache.compile(null, "{{foo}}");
+
+        // then:
+        assertThat(second, sameInstance(first));
+        assertThat(cache.compile("named", "{{foo}}"), not(sameInstance(first)));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedTemplates() {
+        // given:
+        TemplateCache cache = new TemplateCache(new DefaultMustacheFactory(), 2);
+        Mustache foo = cache.compile(null, "{{foo}}");
+        Mustache bar = cache.compile(null, "{{bar}}");
+
+        // when:
+        cache.compile(null, "{{foo}}");
+        cache.compile(null, "{{baz}}");
+
+        // then:
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.compile(null, "{{foo}}"), sameInstance(foo));
+        assertThat(cache.compile(null, "{{bar}}"), not(sameInstance(bar)));
+    }
+}
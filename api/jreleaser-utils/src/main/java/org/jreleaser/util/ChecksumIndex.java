@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singleton;
+
+/**
+ * Persistent index of file checksums stored as JSON lines.
+ * <p>
+ * Entries are keyed by absolute path and are only considered valid while the file's size,
+ * last modified time and file key remain unchanged. New entries are appended to the index
+ * file as they are computed, a later line for the same path supersedes an earlier one.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public final class ChecksumIndex {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path indexFile;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile boolean loaded;
+
+    public ChecksumIndex(Path indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    public Path getIndexFile() {
+        return indexFile;
+    }
+
+    public String checksum(Algorithm algorithm, Path input) throws IOException {
+        return checksums(input, singleton(algorithm)).get(algorithm);
+    }
+
+    /**
+     * Returns checksums for the given algorithms, computing only those that are not indexed
+     * for the current state of the file. Missing checksums are computed in a single pass.
+     */
+    public Map<Algorithm, String> checksums(Path input, Collection<Algorithm> algorithms) throws IOException {
+        load();
+
+        Path path = input.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        String key = path.toString();
+
+        Entry entry = entries.get(key);
+        if (null == entry || !entry.matches(attributes)) {
+            entry = new Entry(key, attributes);
+        }
+
+        Set<Algorithm> missing = new LinkedHashSet<>(algorithms);
+        missing.removeAll(entry.checksums.keySet());
+
+        if (!missing.isEmpty()) {
+            entry = entry.with(ChecksumUtils.checksums(path, missing));
+            entries.put(key, entry);
+            append(entry);
+        }
+
+        Map<Algorithm, String> result = new EnumMap<>(Algorithm.class);
+        for (Algorithm algorithm : algorithms) {
+            result.put(algorithm, entry.checksums.get(algorithm));
+        }
+        return result;
+    }
+
+    private void load() throws IOException {
+        if (loaded) return;
+
+        synchronized (writeLock) {
+            if (loaded) return;
+
+            int lines = 0;
+            if (Files.exists(indexFile)) {
+                try (BufferedReader reader = Files.newBufferedReader(indexFile, UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.trim().isEmpty()) continue;
+                        lines++;
+                        Entry entry = Entry.parse(line);
+                        if (null != entry) entries.put(entry.path, entry);
+                    }
+                }
+            }
+
+            // drop stale and superseded lines
+            entries.values().removeIf(e -> !e.isCurrent());
+            if (lines > entries.size()) {
+                compact();
+            }
+            loaded = true;
+        }
+    }
+
+    private void compact() throws IOException {
+        Files.createDirectories(indexFile.getParent());
+        Path tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, UTF_8)) {
+            for (Entry entry : entries.values()) {
+                writer.write(entry.toJson());
+                writer.newLine();
+            }
+        }
+        Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void append(Entry entry) throws IOException {
+        synchronized (writeLock) {
+            Files.createDirectories(indexFile.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(indexFile, UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(entry.toJson());
+                writer.newLine();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        private final String fileKey;
+        private final Map<Algorithm, String> checksums;
+
+        private Entry(String path, long size, long lastModified, String fileKey, Map<Algorithm, String> checksums) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.fileKey = fileKey;
+            this.checksums = Collections.unmodifiableMap(checksums);
+        }
+
+        private Entry(String path, BasicFileAttributes attributes) {
+            this(path, attributes.size(), attributes.lastModifiedTime().toMillis(),
+                fileKeyOf(attributes), new EnumMap<>(Algorithm.class));
+        }
+
+        private Entry with(Map<Algorithm, String> additional) {
+            Map<Algorithm, String> map = new EnumMap<>(Algorithm.class);
+            map.putAll(checksums);
+            map.putAll(additional);
+            return new Entry(path, size, lastModified, fileKey, map);
+        }
+
+        private boolean matches(BasicFileAttributes attributes) {
+            return size == attributes.size() &&
+                lastModified == attributes.lastModifiedTime().toMillis() &&
+                Objects.equals(fileKey, fileKeyOf(attributes));
+        }
+
+        private boolean isCurrent() {
+            try {
+                return matches(Files.readAttributes(Paths.get(path), BasicFileAttributes.class));
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        private String toJson() {
+            ObjectNode node = MAPPER.createObjectNode();
+            node.put("path", path);
+            node.put("size", size);
+            node.put("lastModified", lastModified);
+            if (null != fileKey) node.put("fileKey", fileKey);
+            ObjectNode digests = node.putObject("checksums");
+            checksums.forEach((k, v) -> digests.put(k.name(), v));
+            return node.toString();
+        }
+
+        private static Entry parse(String line) {
+            try {
+                JsonNode node = MAPPER.readTree(line);
+                Map<Algorithm, String> checksums = new EnumMap<>(Algorithm.class);
+                Iterator<Map.Entry<String, JsonNode>> fields = node.path("checksums").fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    checksums.put(Algorithm.valueOf(field.getKey()), field.getValue().asText());
+                }
+                return new Entry(node.get("path").asText(),
+                    node.get("size").asLong(),
+                    node.get("lastModified").asLong(),
+                    node.hasNonNull("fileKey") ? node.get("fileKey").asText() : null,
+                    checksums);
+            } catch (IOException | RuntimeException e) {
+                // ignore corrupt lines, the file will be rehashed
+                return null;
+            }
+        }
+
+        private static String fileKeyOf(BasicFileAttributes attributes) {
+            Object key = attributes.fileKey();
+            return null != key ? key.toString() : null;
+        }
+    }
+}
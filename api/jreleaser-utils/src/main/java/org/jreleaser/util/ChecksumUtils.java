@@ -23,12 +23,22 @@ import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.jreleaser.bundle.RB;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 public class ChecksumUtils {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private ChecksumUtils() {
         // prevent instantiation
     }
@@ -65,4 +75,124 @@ public class ChecksumUtils {
                 throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
         }
     }
+
+    /**
+     * Calculates the checksum of the given file, reading it in chunks.
+     *
+     * @since 1.4.0
+     */
+    public static String checksum(Algorithm algorithm, Path input) throws IOException {
+        return checksums(input, EnumSet.of(algorithm)).get(algorithm);
+    }
+
+    /**
+     * Calculates checksums for all given algorithms reading the file exactly once
+     * through a fixed size buffer, regardless of the file's size.
+     *
+     * @since 1.4.0
+     */
+    public static Map<Algorithm, String> checksums(Path input, Collection<Algorithm> algorithms) throws IOException {
+        try (InputStream in = Files.newInputStream(input)) {
+            return checksums(in, algorithms);
+        }
+    }
+
+    /**
+     * Calculates checksums for all given algorithms in a single pass over the stream.
+     * The stream is not closed.
+     *
+     * @since 1.4.0
+     */
+    public static Map<Algorithm, String> checksums(InputStream input, Collection<Algorithm> algorithms) throws IOException {
+        Map<Algorithm, DigestSink> sinks = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            sinks.put(algorithm, createSink(algorithm));
+        }
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = input.read(buffer, 0, buffer.length)) != -1) {
+            for (DigestSink sink : sinks.values()) {
+                sink.update(buffer, read);
+            }
+            total += read;
+        }
+        Tracer.bytesRead(total);
+
+        Map<Algorithm, String> checksums = new LinkedHashMap<>();
+        for (Map.Entry<Algorithm, DigestSink> e : sinks.entrySet()) {
+            checksums.put(e.getKey(), e.getValue().hex());
+        }
+        return checksums;
+    }
+
+    private static DigestSink createSink(Algorithm algorithm) throws IOException {
+        switch (algorithm) {
+            case MD2:
+                return new MessageDigestSink(DigestUtils.getMd2Digest());
+            case MD5:
+                return new MessageDigestSink(DigestUtils.getMd5Digest());
+            case RMD160:
+                return new Ripemd160Sink();
+            case SHA_1:
+                return new MessageDigestSink(DigestUtils.getSha1Digest());
+            case SHA_256:
+                return new MessageDigestSink(DigestUtils.getSha256Digest());
+            case SHA_384:
+                return new MessageDigestSink(DigestUtils.getSha384Digest());
+            case SHA_512:
+                return new MessageDigestSink(DigestUtils.getSha512Digest());
+            case SHA3_224:
+                return new MessageDigestSink(DigestUtils.getSha3_224Digest());
+            case SHA3_256:
+                return new MessageDigestSink(DigestUtils.getSha3_256Digest());
+            case SHA3_384:
+                return new MessageDigestSink(DigestUtils.getSha3_384Digest());
+            case SHA3_512:
+                return new MessageDigestSink(DigestUtils.getSha3_512Digest());
+            default:
+                throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
+        }
+    }
+
+    private interface DigestSink {
+        void update(byte[] buffer, int length);
+
+        String hex();
+    }
+
+    private static final class MessageDigestSink implements DigestSink {
+        private final MessageDigest digest;
+
+        private MessageDigestSink(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void update(byte[] buffer, int length) {
+            digest.update(buffer, 0, length);
+        }
+
+        @Override
+        public String hex() {
+            return Hex.encodeHexString(digest.digest());
+        }
+    }
+
+    private static final class Ripemd160Sink implements DigestSink {
+        private final RIPEMD160Digest digest = new RIPEMD160Digest();
+
+        @Override
+        public void update(byte[] buffer, int length) {
+            digest.update(buffer, 0, length);
+        }
+
+        @Override
+        public String hex() {
+            byte[] output = new byte[digest.getDigestSize()];
+            digest.doFinal(output, 0);
+            return Hex.encodeHexString(output);
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resources consumed by a traced execution step.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public final class ExecutionMetrics {
+    private final long wallTimeNanos;
+    private final long cpuTimeNanos;
+    private final long bytesRead;
+    private final long bytesWritten;
+    private final long httpRequests;
+    private final long httpRetries;
+    private final long httpWaitNanos;
+
+    public ExecutionMetrics(long wallTimeNanos, long cpuTimeNanos, long bytesRead, long bytesWritten,
+                            long httpRequests, long httpRetries, long httpWaitNanos) {
+        this.wallTimeNanos = wallTimeNanos;
+        this.cpuTimeNanos = cpuTimeNanos;
+        this.bytesRead = bytesRead;
+        this.bytesWritten = bytesWritten;
+        this.httpRequests = httpRequests;
+        this.httpRetries = httpRetries;
+        this.httpWaitNanos = httpWaitNanos;
+    }
+
+    public Duration getWallTime() {
+        return Duration.ofNanos(wallTimeNanos);
+    }
+
+    /**
+     * CPU time spent by the thread that ran the step plus any worker tasks it spawned,
+     * {@code Duration.ZERO} when the JVM does not support thread CPU time measurement.
+     */
+    public Duration getCpuTime() {
+        return Duration.ofNanos(cpuTimeNanos);
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getHttpRequests() {
+        return httpRequests;
+    }
+
+    public long getHttpRetries() {
+        return httpRetries;
+    }
+
+    /**
+     * Time spent waiting before sending HTTP requests, either paced by rate limits or backing off before a retry.
+     */
+    public Duration getHttpWaitTime() {
+        return Duration.ofNanos(httpWaitNanos);
+    }
+
+    public Map<String, Object> asMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("wallTimeMs", wallTimeNanos / 1_000_000L);
+        map.put("cpuTimeMs", cpuTimeNanos / 1_000_000L);
+        map.put("bytesRead", bytesRead);
+        map.put("bytesWritten", bytesWritten);
+        map.put("httpRequests", httpRequests);
+        map.put("httpRetries", httpRetries);
+        map.put("httpWaitMs", httpWaitNanos / 1_000_000L);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionMetrics" + asMap();
+    }
+}
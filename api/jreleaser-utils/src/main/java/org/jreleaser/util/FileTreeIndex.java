@@ -0,0 +1,239 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Run wide cache of directory tree listings used to resolve globs.
+ * <p>
+ * Each directory tree is walked once; listing a directory that lies inside an already listed
+ * tree is served from that listing without touching the filesystem. Files below any of the
+ * volatile roots given at construction are never cached, as their contents change while the
+ * run progresses; they are read from disk on every listing. Listings that hit errors are not
+ * cached either.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public final class FileTreeIndex {
+    private final Map<Path, List<Path>> trees = new ConcurrentHashMap<>();
+    private final List<Path> volatileRoots = new ArrayList<>();
+
+    public FileTreeIndex(Path... volatileRoots) {
+        for (Path root : volatileRoots) {
+            this.volatileRoots.add(normalize(root));
+        }
+    }
+
+    /**
+     * Lists all files below {@code root}, recursively. Directories are not included.
+     */
+    public Listing list(Path root) {
+        return list(root, true);
+    }
+
+    /**
+     * Lists the files below {@code root}. Only direct children are listed when {@code recursive} is {@code false}.
+     */
+    public Listing list(Path root, boolean recursive) {
+        Path key = normalize(root);
+        if (isVolatile(key)) return walk(root, recursive);
+
+        List<Path> tree = findTree(key);
+        if (null == tree) {
+            if (!recursive) return walk(root, false);
+
+            Listing listing = walk(root, true);
+            if (listing.isFailed()) return listing;
+
+            tree = new ArrayList<>();
+            for (Path path : listing.relativePaths) {
+                if (!isVolatile(key.resolve(path))) tree.add(path);
+            }
+            trees.put(key, tree);
+            return listing;
+        }
+
+        List<Path> paths = new ArrayList<>();
+        for (Path path : tree) {
+            if (recursive || path.getNameCount() == 1) paths.add(path);
+        }
+
+        // contents of volatile directories are always read from disk
+        Map<Path, IOException> failures = new LinkedHashMap<>();
+        for (Path volatileRoot : volatileRoots) {
+            if (!recursive || !volatileRoot.startsWith(key) || !Files.isDirectory(volatileRoot)) continue;
+
+            Listing listing = walk(volatileRoot, true);
+            Path prefix = key.relativize(volatileRoot);
+            for (Path path : listing.relativePaths) {
+                paths.add(prefix.resolve(path));
+            }
+            failures.putAll(listing.failures);
+        }
+
+        return new Listing(root, paths, failures);
+    }
+
+    /**
+     * Lists several directories at once, walking only the outermost ones so that nested
+     * directories are served from the listing of their ancestor.
+     */
+    public void prepare(Collection<Path> roots) {
+        List<Path> keys = new ArrayList<>();
+        for (Path root : roots) {
+            keys.add(normalize(root));
+        }
+        keys.sort(Comparator.comparingInt(Path::getNameCount));
+
+        List<Path> walked = new ArrayList<>();
+        for (Path key : keys) {
+            if (isVolatile(key) || walked.stream().anyMatch(key::startsWith)) continue;
+            list(key);
+            walked.add(key);
+        }
+    }
+
+    /**
+     * Drops cached listings that overlap with {@code path}, for instance after writing files into it.
+     */
+    public void invalidate(Path path) {
+        Path key = normalize(path);
+        trees.keySet().removeIf(root -> key.startsWith(root) || root.startsWith(key));
+    }
+
+    /**
+     * Drops all cached listings, for instance after running external commands that may touch the filesystem.
+     */
+    public void clear() {
+        trees.clear();
+    }
+
+    /**
+     * Walks {@code root} without consulting nor populating any cache.
+     */
+    public static Listing walk(Path root, boolean recursive) {
+        List<Path> paths = new ArrayList<>();
+        Map<Path, IOException> failures = new LinkedHashMap<>();
+
+        try {
+            Files.walkFileTree(root, EnumSet.noneOf(FileVisitOption.class), recursive ? Integer.MAX_VALUE : 1, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (recursive || !attrs.isDirectory()) {
+                        paths.add(root.relativize(file));
+                    }
+                    return CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    failures.put(file, e);
+                    return CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            failures.put(root, e);
+        }
+
+        return new Listing(root, paths, failures);
+    }
+
+    private List<Path> findTree(Path key) {
+        List<Path> tree = trees.get(key);
+        if (null != tree) return tree;
+
+        for (Map.Entry<Path, List<Path>> e : trees.entrySet()) {
+            Path ancestor = e.getKey();
+            if (key.startsWith(ancestor)) {
+                Path prefix = ancestor.relativize(key);
+                List<Path> subtree = new ArrayList<>();
+                for (Path path : e.getValue()) {
+                    if (path.startsWith(prefix) && !path.equals(prefix)) {
+                        subtree.add(prefix.relativize(path));
+                    }
+                }
+                trees.putIfAbsent(key, subtree);
+                return subtree;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isVolatile(Path key) {
+        for (Path root : volatileRoots) {
+            if (key.startsWith(root)) return true;
+        }
+        return false;
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Files found below a root directory, as paths resolved against that root.
+     */
+    public static final class Listing {
+        private final Path root;
+        private final List<Path> relativePaths;
+        private final Map<Path, IOException> failures;
+
+        private Listing(Path root, List<Path> relativePaths, Map<Path, IOException> failures) {
+            this.root = root;
+            this.relativePaths = unmodifiableList(relativePaths);
+            this.failures = unmodifiableMap(failures);
+        }
+
+        public List<Path> getPaths() {
+            List<Path> paths = new ArrayList<>(relativePaths.size());
+            for (Path path : relativePaths) {
+                paths.add(root.resolve(path));
+            }
+            return paths;
+        }
+
+        public Map<Path, IOException> getFailures() {
+            return failures;
+        }
+
+        public boolean isFailed() {
+            return !failures.isEmpty();
+        }
+    }
+}
@@ -30,7 +30,6 @@ import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
 import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
 import org.apache.commons.compress.utils.IOUtils;
@@ -169,7 +168,7 @@ public final class FileUtils {
                     out.putArchiveEntry(archiveEntry);
 
                     if (inputFile.isFile()) {
-                        out.write(Files.readAllBytes(file));
+                        Files.copy(file, out);
                     }
                     out.closeArchiveEntry();
 
@@ -188,7 +187,7 @@ public final class FileUtils {
 
     public static void tgz(Path src, Path dest) throws IOException {
         try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            new GzipCompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
+            new ParallelGzipOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
             tar(src, out);
         }
     }
@@ -223,7 +222,7 @@ public final class FileUtils {
                 out.putArchiveEntry(archiveEntry);
 
                 if (inputFile.isFile()) {
-                    out.write(Files.readAllBytes(file));
+                    Files.copy(file, out);
                 }
 
                 out.closeArchiveEntry();
@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A mutable view over a stack of read-only maps.
+ * <p>
+ * Lookups go through the layers in order, earlier layers shadow later ones. Writes and
+ * removals are recorded in a private overlay, layers are never modified, which lets several
+ * views share the same layers without copying them. Layers must not change while a view over
+ * them is in use.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public final class LayeredMap<K, V> extends AbstractMap<K, V> {
+    private static final Object REMOVED = new Object();
+
+    private final List<Map<K, V>> layers;
+    private final Map<K, Object> overlay = new LinkedHashMap<>();
+    // counted once on first use, then kept up to date by writes
+    private int size = -1;
+
+    private LayeredMap(List<Map<K, V>> layers) {
+        this.layers = layers;
+    }
+
+    @SafeVarargs
+    public static <K, V> LayeredMap<K, V> of(Map<K, V>... layers) {
+        return new LayeredMap<>(new ArrayList<>(Arrays.asList(layers)));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (overlay.containsKey(key)) return overlay.get(key) != REMOVED;
+        return null != findLayer(key, layers.size());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (overlay.containsKey(key)) {
+            Object value = overlay.get(key);
+            return value != REMOVED ? (V) value : null;
+        }
+
+        Map<K, V> layer = findLayer(key, layers.size());
+        return null != layer ? layer.get(key) : null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        boolean present = containsKey(key);
+        V previous = get(key);
+        overlay.put(key, value);
+        if (!present && size >= 0) size++;
+        return previous;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        boolean present = containsKey(key);
+        V previous = get(key);
+        if (null != findLayer(key, layers.size())) {
+            overlay.put((K) key, REMOVED);
+        } else {
+            overlay.remove(key);
+        }
+        if (present && size >= 0) size--;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        overlay.clear();
+        for (Map<K, V> layer : layers) {
+            for (K key : layer.keySet()) {
+                overlay.put(key, REMOVED);
+            }
+        }
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        if (size < 0) {
+            int count = 0;
+            for (Iterator<Entry<K, V>> it = new EntryIterator(); it.hasNext(); it.next()) {
+                count++;
+            }
+            size = count;
+        }
+        return size;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return LayeredMap.this.size();
+            }
+        };
+    }
+
+    private Map<K, V> findLayer(Object key, int limit) {
+        for (int i = 0; i < limit; i++) {
+            Map<K, V> layer = layers.get(i);
+            if (layer.containsKey(key)) return layer;
+        }
+        return null;
+    }
+
+    /**
+     * Visits layer keys in order, then keys that only exist in the overlay.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private int layer;
+        private Iterator<? extends Entry<K, ?>> current = layers.isEmpty() ? overlay.entrySet().iterator() : layers.get(0).entrySet().iterator();
+        private Entry<K, V> next;
+
+        @Override
+        public boolean hasNext() {
+            while (null == next) {
+                if (!current.hasNext()) {
+                    if (layer >= layers.size()) return false;
+                    layer++;
+                    current = layer < layers.size() ? layers.get(layer).entrySet().iterator() : overlay.entrySet().iterator();
+                    continue;
+                }
+
+                K key = current.next().getKey();
+                if (layer < layers.size()) {
+                    // shadowed by an earlier layer, or removed
+                    if (null != findLayer(key, layer) || overlay.get(key) == REMOVED) continue;
+                } else {
+                    // overlay entries that shadow a layer were visited already
+                    if (overlay.get(key) == REMOVED || null != findLayer(key, layers.size())) continue;
+                }
+                next = new SimpleImmutableEntry<>(key, get(key));
+            }
+            return true;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Entry<K, V> entry = next;
+            next = null;
+            return entry;
+        }
+    }
+}
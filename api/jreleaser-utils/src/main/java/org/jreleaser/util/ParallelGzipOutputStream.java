@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzip output stream that compresses fixed size blocks in parallel, in the style of pigz.
+ * <p>
+ * Each block is deflated independently on the common pool, primed with the last 32 KiB of
+ * the previous block as dictionary, and terminated with a sync flush so that the compressed
+ * blocks can be concatenated into a single deflate stream. The result is a regular single
+ * member gzip file.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+final class ParallelGzipOutputStream extends OutputStream {
+    private static final int BLOCK_SIZE = 128 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final byte[] HEADER = {
+        0x1f, (byte) 0x8b,     // magic
+        Deflater.DEFLATED,     // method
+        0,                     // flags
+        0, 0, 0, 0,            // mtime
+        0,                     // extra flags
+        (byte) 0xff            // OS (unknown)
+    };
+
+    private final OutputStream out;
+    private final int level;
+    private final int maxPending;
+    private final Deque<DeflateBlock> pending = new ArrayDeque<>();
+    private final CRC32 crc = new CRC32();
+    private byte[] block = new byte[BLOCK_SIZE];
+    private byte[] dictionary;
+    private int count;
+    private long size;
+    private boolean closed;
+
+    ParallelGzipOutputStream(OutputStream out) throws IOException {
+        this(out, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    ParallelGzipOutputStream(OutputStream out, int level) throws IOException {
+        this.out = out;
+        this.level = level;
+        this.maxPending = Math.max(2, ForkJoinPool.getCommonPoolParallelism() * 2);
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        block[count++] = (byte) b;
+        crc.update(b);
+        size++;
+        if (count == BLOCK_SIZE) {
+            submit(false);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        crc.update(b, off, len);
+        size += len;
+
+        while (len > 0) {
+            int n = Math.min(len, BLOCK_SIZE - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == BLOCK_SIZE) {
+                submit(false);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!pending.isEmpty() && pending.peek().isDone()) {
+            out.write(pending.poll().join());
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+
+        try {
+            submit(true);
+            while (!pending.isEmpty()) {
+                out.write(pending.poll().join());
+            }
+            writeInt((int) crc.getValue());
+            writeInt((int) size);
+            out.flush();
+        } finally {
+            pending.forEach(task -> task.cancel(true));
+            out.close();
+        }
+    }
+
+    private void submit(boolean last) throws IOException {
+        DeflateBlock task = new DeflateBlock(block, count, dictionary, level, last);
+        task.fork();
+        pending.add(task);
+
+        if (!last) {
+            dictionary = Arrays.copyOfRange(block, BLOCK_SIZE - DICTIONARY_SIZE, BLOCK_SIZE);
+            block = new byte[BLOCK_SIZE];
+            count = 0;
+        }
+
+        // bound memory by writing out the oldest blocks
+        while (pending.size() > maxPending || !pending.isEmpty() && pending.peek().isDone()) {
+            out.write(pending.poll().join());
+        }
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+        out.write((value >> 16) & 0xff);
+        out.write((value >> 24) & 0xff);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+    }
+
+    private static final class DeflateBlock extends RecursiveTask<byte[]> {
+        private static final long serialVersionUID = 7613425148236728103L;
+
+        private final byte[] data;
+        private final int length;
+        private final byte[] dictionary;
+        private final int level;
+        private final boolean last;
+
+        private DeflateBlock(byte[] data, int length, byte[] dictionary, int level, boolean last) {
+            this.data = data;
+            this.length = length;
+            this.dictionary = dictionary;
+            this.level = level;
+            this.last = last;
+        }
+
+        @Override
+        protected byte[] compute() {
+            Deflater deflater = new Deflater(level, true);
+            try {
+                if (null != dictionary) {
+                    deflater.setDictionary(dictionary);
+                }
+                deflater.setInput(data, 0, length);
+
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+                byte[] buffer = new byte[8192];
+                if (last) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        int n = deflater.deflate(buffer);
+                        compressed.write(buffer, 0, n);
+                    }
+                } else {
+                    // a sync flush ends on a byte boundary without marking the final block
+                    int n;
+                    do {
+                        n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                        compressed.write(buffer, 0, n);
+                    } while (n == buffer.length);
+                }
+
+                return compressed.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Records signatures that were successfully verified, keyed by the digests of the signed
+ * file and of its signature plus the fingerprint of the verifying key.
+ * <p>
+ * A pair whose digests and key match a previous successful verification is considered valid
+ * without any cryptographic work. Digests are resolved through the context's {@code ChecksumIndex}
+ * thus unchanged files are not read again. Pairs verified with an unknown key ({@code null}
+ * fingerprint) are neither looked up nor recorded.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public final class SignatureLedger {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path ledgerFile;
+    private final ChecksumIndex checksumIndex;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Optional<String>> keys = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile boolean loaded;
+
+    public SignatureLedger(Path ledgerFile, ChecksumIndex checksumIndex) {
+        this.ledgerFile = ledgerFile;
+        this.checksumIndex = checksumIndex;
+    }
+
+    /**
+     * Resolves the fingerprint of the key identified by {@code selector} once per ledger.
+     *
+     * @param selector a description of the key, e.g. its configuration.
+     * @param resolver computes the fingerprint, may return {@code null} if it can't be determined.
+     * @return the fingerprint or {@code null}.
+     */
+    public String keyFingerprint(String selector, Supplier<String> resolver) {
+        return keys.computeIfAbsent(selector, k -> Optional.ofNullable(resolver.get())).orElse(null);
+    }
+
+    public boolean isVerified(Path input, Path signature, String keyFingerprint) {
+        if (null == keyFingerprint) return false;
+
+        try {
+            load();
+            Entry entry = entries.get(keyOf(input));
+            return null != entry && entry.equals(entryOf(input, signature, keyFingerprint));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public void record(Path input, Path signature, String keyFingerprint) {
+        if (null == keyFingerprint) return;
+
+        try {
+            load();
+            Entry entry = entryOf(input, signature, keyFingerprint);
+            if (entry.equals(entries.put(entry.input, entry))) return;
+
+            synchronized (writeLock) {
+                Files.createDirectories(ledgerFile.getParent());
+                try (BufferedWriter writer = Files.newBufferedWriter(ledgerFile, UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    writer.write(entry.toJson());
+                    writer.newLine();
+                }
+            }
+        } catch (IOException ignored) {
+            // the ledger is an optimization, signatures will be verified again next time
+        }
+    }
+
+    private void load() throws IOException {
+        if (loaded) return;
+
+        synchronized (writeLock) {
+            if (loaded) return;
+
+            if (Files.exists(ledgerFile)) {
+                try (BufferedReader reader = Files.newBufferedReader(ledgerFile, UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        Entry entry = Entry.parse(line);
+                        if (null != entry) entries.put(entry.input, entry);
+                    }
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    private Entry entryOf(Path input, Path signature, String keyFingerprint) throws IOException {
+        return new Entry(keyOf(input),
+            checksumIndex.checksum(Algorithm.SHA_256, input),
+            checksumIndex.checksum(Algorithm.SHA_256, signature),
+            keyFingerprint);
+    }
+
+    private static String keyOf(Path input) {
+        return input.toAbsolutePath().normalize().toString();
+    }
+
+    private static final class Entry {
+        private final String input;
+        private final String inputDigest;
+        private final String signatureDigest;
+        private final String key;
+
+        private Entry(String input, String inputDigest, String signatureDigest, String key) {
+            this.input = input;
+            this.inputDigest = inputDigest;
+            this.signatureDigest = signatureDigest;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (null == o || getClass() != o.getClass()) return false;
+            Entry that = (Entry) o;
+            return input.equals(that.input) &&
+                inputDigest.equals(that.inputDigest) &&
+                signatureDigest.equals(that.signatureDigest) &&
+                Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(input, inputDigest, signatureDigest, key);
+        }
+
+        private String toJson() {
+            ObjectNode node = MAPPER.createObjectNode();
+            node.put("input", input);
+            node.put("inputDigest", inputDigest);
+            node.put("signatureDigest", signatureDigest);
+            node.put("key", key);
+            return node.toString();
+        }
+
+        private static Entry parse(String line) {
+            try {
+                JsonNode node = MAPPER.readTree(line);
+                return new Entry(node.get("input").asText(),
+                    node.get("inputDigest").asText(),
+                    node.get("signatureDigest").asText(),
+                    node.hasNonNull("key") ? node.get("key").asText() : null);
+            } catch (IOException | RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
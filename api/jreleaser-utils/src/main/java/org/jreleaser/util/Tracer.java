@@ -0,0 +1,256 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Records timing and resource usage of execution steps.
+ * <p>
+ * Steps are opened with {@link #begin(String, String)} and closed with {@link #end(String, String)}.
+ * The most recently opened step becomes current for the calling thread, resources reported with
+ * the static {@code bytesRead}, {@code bytesWritten}, {@code httpRequest}, {@code httpRetry} and
+ * {@code httpWait} methods are attributed to the current step and all of its enclosing steps. Tasks handed over to
+ * other threads should be wrapped with {@link #inherit(Callable)} to keep attribution.
+ * <p>
+ * Completed steps may be written in Chrome's trace event format with {@link #write(Path)}.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public final class Tracer {
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = isCpuTimeSupported();
+
+    private final long origin = System.nanoTime();
+    private final Map<String, Span> active = new ConcurrentHashMap<>();
+    private final Queue<Span> completed = new ConcurrentLinkedQueue<>();
+
+    public void begin(String category, String name) {
+        Span span = new Span(category, name, CURRENT.get());
+        active.put(key(category, name), span);
+        CURRENT.set(span);
+    }
+
+    /**
+     * Closes the matching step.
+     *
+     * @return the metrics of the step or {@code null} if no such step was open.
+     */
+    public ExecutionMetrics end(String category, String name) {
+        Span span = active.remove(key(category, name));
+        if (null == span) return null;
+
+        span.finish();
+        if (CURRENT.get() == span) {
+            CURRENT.set(span.parent);
+        }
+        completed.add(span);
+        return span.metrics();
+    }
+
+    public void write(Path file) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        ArrayNode events = root.putArray("traceEvents");
+
+        List<Span> spans = new ArrayList<>(completed);
+        spans.sort(Comparator.comparingLong(s -> s.start));
+        for (Span span : spans) {
+            ObjectNode event = events.addObject();
+            event.put("name", span.name);
+            event.put("cat", span.category);
+            event.put("ph", "X");
+            event.put("ts", (span.start - origin) / 1_000L);
+            event.put("dur", (span.end - span.start) / 1_000L);
+            event.put("pid", 1);
+            event.put("tid", span.threadId);
+            event.set("args", mapper.valueToTree(span.metrics().asMap()));
+        }
+        root.put("displayTimeUnit", "ms");
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+            mapper.writerWithDefaultPrettyPrinter().writeValue(writer, root);
+        }
+    }
+
+    public static void bytesRead(long bytes) {
+        Span span = CURRENT.get();
+        if (null != span) span.record(Counter.BYTES_READ, bytes);
+    }
+
+    public static void bytesWritten(long bytes) {
+        Span span = CURRENT.get();
+        if (null != span) span.record(Counter.BYTES_WRITTEN, bytes);
+    }
+
+    public static void httpRequest() {
+        Span span = CURRENT.get();
+        if (null != span) span.record(Counter.HTTP_REQUESTS, 1);
+    }
+
+    public static void httpRetry() {
+        Span span = CURRENT.get();
+        if (null != span) span.record(Counter.HTTP_RETRIES, 1);
+    }
+
+    /**
+     * Records time spent waiting for a rate limited or throttled host.
+     */
+    public static void httpWait(long nanos) {
+        Span span = CURRENT.get();
+        if (null != span) span.record(Counter.HTTP_WAIT, nanos);
+    }
+
+    /**
+     * Wraps a task so that resources it consumes on another thread, including CPU time,
+     * are attributed to the step that is current when this method is called.
+     */
+    public static <V> Callable<V> inherit(Callable<V> task) {
+        Span span = CURRENT.get();
+        if (null == span) return task;
+
+        return () -> {
+            Span previous = CURRENT.get();
+            CURRENT.set(span);
+            long cpu = cpuTime();
+            try {
+                return task.call();
+            } finally {
+                span.addCpuTime(cpuTime() - cpu);
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public static Runnable inherit(Runnable task) {
+        Callable<Void> callable = inherit(() -> {
+            task.run();
+            return null;
+        });
+        return () -> {
+            try {
+                callable.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                // cannot happen, the task is a Runnable
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static String key(String category, String name) {
+        return category + ":" + name;
+    }
+
+    private static long cpuTime() {
+        return CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : 0L;
+    }
+
+    private static boolean isCpuTimeSupported() {
+        try {
+            return THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private enum Counter {
+        BYTES_READ,
+        BYTES_WRITTEN,
+        HTTP_REQUESTS,
+        HTTP_RETRIES,
+        HTTP_WAIT
+    }
+
+    private static final class Span {
+        private final String category;
+        private final String name;
+        private final Span parent;
+        private final long threadId;
+        private final long start;
+        private final long startCpu;
+        private final AtomicLong cpuTime = new AtomicLong();
+        private final AtomicLong[] counters = new AtomicLong[Counter.values().length];
+        private volatile long end;
+
+        private Span(String category, String name, Span parent) {
+            this.category = category;
+            this.name = name;
+            this.parent = parent;
+            this.threadId = Thread.currentThread().getId();
+            this.start = System.nanoTime();
+            this.startCpu = cpuTime();
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] = new AtomicLong();
+            }
+        }
+
+        private void record(Counter counter, long delta) {
+            for (Span span = this; null != span; span = span.parent) {
+                span.counters[counter.ordinal()].addAndGet(delta);
+            }
+        }
+
+        private void addCpuTime(long delta) {
+            cpuTime.addAndGet(delta);
+        }
+
+        private void finish() {
+            end = System.nanoTime();
+            // CPU time can only be measured when the step ends on the thread it began on,
+            // time spent on other threads is accounted for by inherit()
+            if (Thread.currentThread().getId() == threadId) {
+                cpuTime.addAndGet(cpuTime() - startCpu);
+            }
+        }
+
+        private ExecutionMetrics metrics() {
+            return new ExecutionMetrics(end - start,
+                cpuTime.get(),
+                counters[Counter.BYTES_READ.ordinal()].get(),
+                counters[Counter.BYTES_WRITTEN.ordinal()].get(),
+                counters[Counter.HTTP_REQUESTS.ordinal()].get(),
+                counters[Counter.HTTP_RETRIES.ordinal()].get(),
+                counters[Counter.HTTP_WAIT.ordinal()].get());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class ChecksumIndexTest {
+    @Test
+    public void reusesIndexedChecksumsAcrossInstances(@TempDir Path tmp) throws IOException {
+        // given:
+        Path input = tmp.resolve("input.txt");
+        Files.write(input, "jreleaser".getBytes());
+        Path indexFile = tmp.resolve("out").resolve("checksums.idx");
+
+        // when:
+        String first = new ChecksumIndex(indexFile).checksum(Algorithm.SHA_256, input);
+        String second = new ChecksumIndex(indexFile).checksum(Algorithm.SHA_256, input);
+
+        // then:
+        assertThat(first, equalTo(ChecksumUtils.checksum(Algorithm.SHA_256, "jreleaser".getBytes())));
+        assertThat(second, equalTo(first));
+        assertThat(Files.readAllLines(indexFile), hasSize(1));
+    }
+
+    @Test
+    public void recomputesWhenFileChanges(@TempDir Path tmp) throws IOException {
+        // given:
+        Path input = tmp.resolve("input.txt");
+        Files.write(input, "jreleaser".getBytes());
+        Path indexFile = tmp.resolve("checksums.idx");
+        new ChecksumIndex(indexFile).checksum(Algorithm.SHA_256, input);
+
+        // when:
+        Files.write(input, "jreleaser!".getBytes());
+        Files.setLastModifiedTime(input, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+        String checksum = new ChecksumIndex(indexFile).checksum(Algorithm.SHA_256, input);
+
+        // then:
+        assertThat(checksum, equalTo(ChecksumUtils.checksum(Algorithm.SHA_256, "jreleaser!".getBytes())));
+        assertThat(Files.readAllLines(indexFile), hasSize(1));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class FileTreeIndexTest {
+    @Test
+    public void servesNestedDirectoriesFromAncestorListing(@TempDir Path tmp) throws IOException {
+        // given:
+        Path a = touch(tmp.resolve("a.txt"));
+        Path b = touch(tmp.resolve("sub").resolve("b.txt"));
+        Path c = touch(tmp.resolve("sub").resolve("deep").resolve("c.txt"));
+        FileTreeIndex index = new FileTreeIndex();
+        index.list(tmp);
+
+        // when:
+        touch(tmp.resolve("sub").resolve("late.txt"));
+        FileTreeIndex.Listing listing = index.list(tmp.resolve("sub"));
+
+        // then:
+        assertThat(listing.getPaths(), containsInAnyOrder(b, c));
+        assertThat(index.list(tmp).getPaths(), containsInAnyOrder(a, b, c));
+        assertThat(index.list(tmp.resolve("sub"), false).getPaths(), containsInAnyOrder(b));
+    }
+
+    @Test
+    public void refreshesAfterInvalidation(@TempDir Path tmp) throws IOException {
+        // given:
+        touch(tmp.resolve("sub").resolve("a.txt"));
+        FileTreeIndex index = new FileTreeIndex();
+        index.list(tmp);
+
+        // when:
+        touch(tmp.resolve("sub").resolve("b.txt"));
+        index.invalidate(tmp.resolve("sub"));
+
+        // then:
+        assertThat(index.list(tmp).getPaths(), hasSize(2));
+    }
+
+    @Test
+    public void readsVolatileRootsFromDisk(@TempDir Path tmp) throws IOException {
+        // given:
+        Path out = tmp.resolve("out");
+        Path a = touch(tmp.resolve("a.txt"));
+        Path b = touch(out.resolve("b.txt"));
+        FileTreeIndex index = new FileTreeIndex(out);
+        index.list(tmp);
+
+        // when:
+        Path c = touch(out.resolve("c.txt"));
+        touch(tmp.resolve("d.txt"));
+
+        // then:
+        assertThat(index.list(out).getPaths(), containsInAnyOrder(b, c));
+        assertThat(index.list(tmp).getPaths(), containsInAnyOrder(a, b, c));
+    }
+
+    @Test
+    public void reportsFailures(@TempDir Path tmp) {
+        // given:
+        Path missing = tmp.resolve("missing");
+
+        // when:
+        FileTreeIndex.Listing listing = new FileTreeIndex().list(missing);
+
+        // then:
+        assertThat(listing.isFailed(), equalTo(true));
+        assertThat(listing.getPaths(), hasSize(0));
+    }
+
+    private static Path touch(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, file.getFileName().toString().getBytes());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class LayeredMapTest {
+    @Test
+    public void earlierLayersShadowLaterOnes() {
+        // given:
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("a", 1);
+        model.put("b", 2);
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("b", 20);
+        context.put("c", 30);
+
+        // when:
+        Map<String, Object> props = LayeredMap.of(model, context);
+
+        // then:
+        assertThat(props.get("b"), equalTo(2));
+        assertThat(props.get("c"), equalTo(30));
+        assertThat(props.size(), equalTo(3));
+        assertThat(props.keySet(), contains("a", "b", "c"));
+    }
+
+    @Test
+    public void writesStayInTheOverlay() {
+        // given:
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("a", 1);
+        model.put("b", 2);
+        Map<String, Object> props = LayeredMap.of(model);
+
+        // when:
+        props.put("a", 10);
+        props.put("c", 3);
+        props.remove("b");
+
+        // then:
+        assertThat(new LinkedHashMap<>(props).toString(), equalTo("{a=10, c=3}"));
+        assertThat(props.get("b"), nullValue());
+        assertThat(model.toString(), equalTo("{a=1, b=2}"));
+        assertThat(LayeredMap.of(model).get("a"), equalTo(1));
+    }
+
+    @Test
+    public void tracksSizeAcrossWrites() {
+        // given:
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("a", 1);
+        model.put("b", 2);
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("b", 20);
+        context.put("c", null);
+        Map<String, Object> props = LayeredMap.of(model, context);
+
+        // when:
+        int initial = props.size();
+        props.put("a", 10);
+        props.put("d", 4);
+        props.remove("b");
+        props.remove("e");
+        props.remove("c");
+        int afterWrites = props.size();
+        props.put("b", 200);
+        int afterRestore = props.size();
+        props.clear();
+
+        // then:
+        assertThat(initial, equalTo(3));
+        assertThat(afterWrites, equalTo(2));
+        assertThat(afterRestore, equalTo(3));
+        assertThat(props.size(), equalTo(0));
+        assertThat(props.isEmpty(), equalTo(true));
+        assertThat(props.entrySet().size(), equalTo(0));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class SignatureLedgerTest {
+    private static final String KEY = "0123456789ABCDEF";
+
+    @Test
+    public void hitsAfterRecord(@TempDir Path tmp) throws IOException {
+        // given:
+        Path input = write(tmp.resolve("input.txt"), "jreleaser");
+        Path signature = write(tmp.resolve("input.txt.asc"), "signature");
+        SignatureLedger ledger = ledger(tmp);
+
+        // when:
+        boolean before = ledger.isVerified(input, signature, KEY);
+        ledger.record(input, signature, KEY);
+
+        // then:
+        assertThat(before, equalTo(false));
+        assertThat(ledger.isVerified(input, signature, KEY), equalTo(true));
+    }
+
+    @Test
+    public void missesWhenInputChanges(@TempDir Path tmp) throws IOException {
+        // given:
+        Path input = write(tmp.resolve("input.txt"), "jreleaser");
+        Path signature = write(tmp.resolve("input.txt.asc"), "signature");
+        SignatureLedger ledger = ledger(tmp);
+        ledger.record(input, signature, KEY);
+
+        // when:
+        touch(write(input, "jreleaser!"));
+
+        // then:
+        assertThat(ledger.isVerified(input, signature, KEY), equalTo(false));
+    }
+
+    @Test
+    public void missesWhenSignatureChanges(@TempDir Path tmp) throws IOException {
+        // given:
+        Path input = write(tmp.resolve("input.txt"), "jreleaser");
+        Path signature = write(tmp.resolve("input.txt.asc"), "signature");
+        SignatureLedger ledger = ledger(tmp);
+        ledger.record(input, signature, KEY);
+
+        // when:
+        touch(write(signature, "another signature"));
+
+        // then:
+        assertThat(ledger.isVerified(input, signature, KEY), equalTo(false));
+    }
+
+    @Test
+    public void missesWhenKeyDiffers(@TempDir Path tmp) throws IOException {
+        // given:
+        Path input = write(tmp.resolve("input.txt"), "jreleaser");
+        Path signature = write(tmp.resolve("input.txt.asc"), "signature");
+        SignatureLedger ledger = ledger(tmp);
+
+        // when:
+        ledger.record(input, signature, KEY);
+
+        // then:
+        assertThat(ledger.isVerified(input, signature, "FEDCBA9876543210"), equalTo(false));
+    }
+
+    @Test
+    public void unknownKeyNeitherHitsNorRecords(@TempDir Path tmp) throws IOException {
+        // given:
+        Path input = write(tmp.resolve("input.txt"), "jreleaser");
+        Path signature = write(tmp.resolve("input.txt.asc"), "signature");
+        SignatureLedger ledger = ledger(tmp);
+
+        // when:
+        ledger.record(input, signature, null);
+
+        // then:
+        assertThat(ledger.isVerified(input, signature, null), equalTo(false));
+        assertThat(Files.exists(tmp.resolve("out").resolve("signatures.idx")), equalTo(false));
+    }
+
+    @Test
+    public void reloadsRecordedEntriesSkippingCorruptLines(@TempDir Path tmp) throws IOException {
+        // given:
+        Path input1 = write(tmp.resolve("input1.txt"), "jreleaser");
+        Path signature1 = write(tmp.resolve("input1.txt.asc"), "signature1");
+        Path input2 = write(tmp.resolve("input2.txt"), "jreleaser2");
+        Path signature2 = write(tmp.resolve("input2.txt.asc"), "signature2");
+        SignatureLedger ledger = ledger(tmp);
+        ledger.record(input1, signature1, KEY);
+        Path ledgerFile = tmp.resolve("out").resolve("signatures.idx");
+        Files.write(ledgerFile, "{\"input\":\"truncated\n".getBytes(UTF_8), StandardOpenOption.APPEND);
+        ledger.record(input2, signature2, KEY);
+
+        // when:
+        SignatureLedger reloaded = ledger(tmp);
+
+        // then:
+        assertThat(reloaded.isVerified(input1, signature1, KEY), equalTo(true));
+        assertThat(reloaded.isVerified(input2, signature2, KEY), equalTo(true));
+        assertThat(reloaded.isVerified(input2, signature1, KEY), equalTo(false));
+    }
+
+    private static SignatureLedger ledger(Path tmp) {
+        Path out = tmp.resolve("out");
+        return new SignatureLedger(out.resolve("signatures.idx"), new ChecksumIndex(out.resolve("checksums.idx")));
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        return Files.write(file, content.getBytes(UTF_8));
+    }
+
+    private static void touch(Path file) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class TracerTest {
+    @Test
+    public void attributesResourcesToEnclosingSteps() {
+        // given:
+        Tracer tracer = new Tracer();
+
+        // when:
+        tracer.begin("workflow", "upload");
+        Tracer.httpRequest();
+        tracer.begin("upload", "artifactory/app");
+        Tracer.httpRequest();
+        Tracer.httpRetry();
+        Tracer.httpWait(2_000_000L);
+        Tracer.bytesWritten(1024);
+        ExecutionMetrics uploader = tracer.end("upload", "artifactory/app");
+        ExecutionMetrics step = tracer.end("workflow", "upload");
+
+        // then:
+        assertThat(uploader.getHttpRequests(), equalTo(1L));
+        assertThat(uploader.getHttpRetries(), equalTo(1L));
+        assertThat(uploader.getHttpWaitTime().toMillis(), equalTo(2L));
+        assertThat(uploader.getBytesWritten(), equalTo(1024L));
+        assertThat(step.getHttpRequests(), equalTo(2L));
+        assertThat(step.getBytesWritten(), equalTo(1024L));
+        assertThat(step.getHttpWaitTime().toMillis(), equalTo(2L));
+        assertThat(tracer.end("workflow", "upload"), nullValue());
+    }
+
+    @Test
+    public void inheritsCurrentStepOnWorkerThreads() throws Exception {
+        // given:
+        Tracer tracer = new Tracer();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when:
+        tracer.begin("workflow", "checksum");
+        try {
+            executor.submit(Tracer.inherit(() -> Tracer.bytesRead(42))).get();
+        } finally {
+            executor.shutdownNow();
+        }
+        ExecutionMetrics metrics = tracer.end("workflow", "checksum");
+
+        // then:
+        assertThat(metrics.getBytesRead(), equalTo(42L));
+    }
+
+    @Test
+    public void writesChromeTraceEvents(@TempDir Path tmp) throws Exception {
+        // given:
+        Tracer tracer = new Tracer();
+        tracer.begin("workflow", "sign");
+        tracer.end("workflow", "sign");
+        Path trace = tmp.resolve("out").resolve("trace.json");
+
+        // when:
+        tracer.write(trace);
+
+        // then:
+        JsonNode event = new ObjectMapper().readTree(trace.toFile()).get("traceEvents").get(0);
+        assertThat(event.get("name").asText(), equalTo("sign"));
+        assertThat(event.get("cat").asText(), equalTo("workflow"));
+        assertThat(event.get("ph").asText(), equalTo("X"));
+        assertThat(event.get("args").get("bytesRead").asLong(), equalTo(0L));
+    }
+}
@@ -24,11 +24,19 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.assemble.ArchiveAssembler;
 import org.jreleaser.model.spi.assemble.AssemblerProcessingException;
 import org.jreleaser.util.FileUtils;
+import org.jreleaser.util.Tracer;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * @author Andres Almiray
@@ -57,18 +65,52 @@ public class ArchiveAssemblerProcessor extends AbstractAssemblerProcessor<org.jr
         context.getLogger().debug(RB.$("assembler.copy.files"), context.relativizeToBasedir(archiveDirectory));
         copyFileSets(context, archiveDirectory);
 
-        // run archive x format
+        // run archive x format, formats are independent of each other
+        Map<Path, Archive.Format> archives = new LinkedHashMap<>();
         for (Archive.Format format : assembler.getFormats()) {
-            archive(workDirectory, assembleDirectory, archiveName, format);
+            String finalArchiveName = archiveName + "." + format.extension();
+            context.getLogger().info("- {}", finalArchiveName);
+            archives.put(assembleDirectory.resolve(finalArchiveName), format);
         }
-    }
 
-    private void archive(Path workDirectory, Path assembleDirectory, String archiveName, Archive.Format format) throws AssemblerProcessingException {
-        String finalArchiveName = archiveName + "." + format.extension();
-        context.getLogger().info("- {}", finalArchiveName);
+        if (archives.size() <= 1) {
+            for (Map.Entry<Path, Archive.Format> archive : archives.entrySet()) {
+                archive(workDirectory, archive.getKey(), archive.getValue());
+            }
+            return;
+        }
+
+        // a dedicated pool, compressors split their own work over the common pool
+        ExecutorService executor = Executors.newFixedThreadPool(archives.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Map.Entry<Path, Archive.Format> archive : archives.entrySet()) {
+                futures.add(executor.submit(Tracer.inherit(context.withChildLogger(null, () -> {
+                    archive(workDirectory, archive.getKey(), archive.getValue());
+                    return null;
+                }))));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof AssemblerProcessingException) {
+                        throw (AssemblerProcessingException) e.getCause();
+                    }
+                    throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
+    private void archive(Path workDirectory, Path archiveFile, Archive.Format format) throws AssemblerProcessingException {
         try {
-            Path archiveFile = assembleDirectory.resolve(finalArchiveName);
             switch (format) {
                 case ZIP:
                     FileUtils.zip(workDirectory, archiveFile);
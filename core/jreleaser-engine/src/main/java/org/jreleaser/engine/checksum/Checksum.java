@@ -24,16 +24,23 @@ import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.distributions.Distribution;
 import org.jreleaser.model.internal.util.Artifacts;
 import org.jreleaser.util.Algorithm;
-import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.Tracer;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
 import static org.jreleaser.model.api.checksum.Checksum.KEY_SKIP_CHECKSUM;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -47,18 +54,14 @@ public class Checksum {
         context.getLogger().increaseIndent();
         context.getLogger().setPrefix("checksum");
 
-        Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
+        List<ChecksumTarget> targets = new ArrayList<>();
 
         if (context.getModel().getChecksum().isFiles()) {
             for (Artifact artifact : Artifacts.resolveFiles(context)) {
                 if (!artifact.isActive()) continue;
                 artifact.getEffectivePath(context);
                 if (artifact.extraPropertyIsTrue(KEY_SKIP_CHECKSUM)) continue;
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context).getFileName());
-                }
+                targets.add(new ChecksumTarget(artifact, null));
             }
         }
 
@@ -66,11 +69,18 @@ public class Checksum {
             for (Artifact artifact : distribution.getArtifacts()) {
                 if (!artifact.isActive()) continue;
                 artifact.getEffectivePath(context, distribution);
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, distribution, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context, distribution).getFileName());
-                }
+                targets.add(new ChecksumTarget(artifact, distribution));
+            }
+        }
+
+        readHashes(context, targets);
+
+        // entries are collected in declaration order regardless of how hashes were computed
+        Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
+        for (ChecksumTarget target : targets) {
+            for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
+                List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
+                list.add(target.artifact.getHash(algorithm) + "  " + target.getEffectivePath(context).getFileName());
             }
         }
 
@@ -121,47 +131,111 @@ public class Checksum {
         context.getLogger().decreaseIndent();
     }
 
+    private static void readHashes(JReleaserContext context, List<ChecksumTarget> targets) throws JReleaserException {
+        int parallelism = context.getModel().getChecksum().getParallelism();
+        if (parallelism <= 1 || targets.size() <= 1) {
+            for (ChecksumTarget target : targets) {
+                target.readHashes(context);
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, targets.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ChecksumTarget target : targets) {
+                futures.add(executor.submit(Tracer.inherit(context.withChildLogger(null, () -> {
+                    target.readHashes(context);
+                    return null;
+                }))));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof JReleaserException) {
+                        throw (JReleaserException) e.getCause();
+                    }
+                    throw new JReleaserException(RB.$("ERROR_unexpected_error"), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static void readHashes(JReleaserContext context, Distribution distribution, Artifact artifact) throws JReleaserException {
+        Path artifactPath = artifact.getEffectivePath(context, distribution);
+        Path checksumsDirectory = context.getChecksumsDirectory().resolve(distribution.getName());
+
+        readHashes(context, context.getModel().getChecksum().getAlgorithms(), artifact, artifactPath,
+            checksumsDirectory, Artifacts.isIndividual(context, distribution, artifact));
+    }
+
+    public static void readHashes(JReleaserContext context, Artifact artifact) throws JReleaserException {
+        Path artifactPath = artifact.getEffectivePath(context);
+
+        readHashes(context, context.getModel().getChecksum().getAlgorithms(), artifact, artifactPath,
+            context.getChecksumsDirectory(), Artifacts.isIndividual(context, artifact));
+    }
+
     public static void readHash(JReleaserContext context, Distribution distribution, Algorithm algorithm, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context, distribution);
-        Path checksumPath = context.getChecksumsDirectory().resolve(distribution.getName())
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+        Path checksumsDirectory = context.getChecksumsDirectory().resolve(distribution.getName());
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, singleton(algorithm), artifact, artifactPath,
+            checksumsDirectory, Artifacts.isIndividual(context, distribution, artifact));
     }
 
     public static void readHash(JReleaserContext context, Algorithm algorithm, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context);
-        Path checksumPath = context.getChecksumsDirectory()
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, singleton(algorithm), artifact, artifactPath,
+            context.getChecksumsDirectory(), Artifacts.isIndividual(context, artifact));
     }
 
-    private static void readHash(JReleaserContext context,
-                                 Algorithm algorithm,
-                                 Artifact artifact,
-                                 Path artifactPath,
-                                 Path checksumPath) throws JReleaserException {
+    private static void readHashes(JReleaserContext context,
+                                   Collection<Algorithm> algorithms,
+                                   Artifact artifact,
+                                   Path artifactPath,
+                                   Path checksumsDirectory,
+                                   boolean individual) throws JReleaserException {
         if (!Files.exists(artifactPath)) {
             throw new JReleaserException(RB.$("ERROR_artifact_does_not_exist", context.relativizeToBasedir(artifactPath)));
         }
 
-        if (!Files.exists(checksumPath)) {
-            context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
-        } else if (artifactPath.toFile().lastModified() > checksumPath.toFile().lastModified()) {
-            context.getLogger().debug(RB.$("checksum.file.newer"),
-                context.relativizeToBasedir(artifactPath),
-                context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
+        Map<Algorithm, String> hashes;
+        try {
+            context.getLogger().debug(RB.$("checksum.reading"), context.relativizeToBasedir(artifactPath));
+            hashes = context.getChecksumIndex().checksums(artifactPath, algorithms);
+        } catch (IOException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", artifactPath), e);
+        }
+
+        for (Map.Entry<Algorithm, String> entry : hashes.entrySet()) {
+            artifact.setHash(entry.getKey(), entry.getValue());
+            if (individual) {
+                // individual checksum files are published as assets, keep them in sync
+                Path checksumPath = checksumsDirectory.resolve(artifactPath.getFileName() + "." + entry.getKey().formatted());
+                writeHash(context, checksumPath, entry.getValue());
+            }
         }
+    }
 
+    private static void writeHash(JReleaserContext context, Path checksumPath, String hash) throws JReleaserException {
         try {
-            context.getLogger().debug(RB.$("checksum.reading"),
-                context.relativizeToBasedir(checksumPath));
-            artifact.setHash(algorithm, new String(Files.readAllBytes(checksumPath)));
+            if (Files.exists(checksumPath) && hash.equals(new String(Files.readAllBytes(checksumPath)))) {
+                return;
+            }
+            context.getLogger().info("{}", context.relativizeToBasedir(checksumPath));
+            Files.createDirectories(checksumPath.getParent());
+            Files.write(checksumPath, hash.getBytes());
         } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_unexpected_error_hash_read", context.relativizeToBasedir(checksumPath)), e);
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_checksum", context.relativizeToBasedir(checksumPath)), e);
         }
     }
 
@@ -170,14 +244,50 @@ public class Checksum {
     }
 
     public static String calculateHash(JReleaserContext context, Path input, Path output, Algorithm algorithm) throws JReleaserException {
+        return calculateHashes(context, input, singletonMap(algorithm, output)).get(algorithm);
+    }
+
+    /**
+     * Calculates all requested checksums reading the input file only once.
+     *
+     * @since 1.4.0
+     */
+    public static Map<Algorithm, String> calculateHashes(JReleaserContext context, Path input, Map<Algorithm, Path> outputs) throws JReleaserException {
         try {
-            context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
-            String hashcode = ChecksumUtils.checksum(algorithm, Files.readAllBytes(input));
-            output.toFile().getParentFile().mkdirs();
-            Files.write(output, hashcode.getBytes());
-            return hashcode;
+            for (Algorithm algorithm : outputs.keySet()) {
+                context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
+            }
+            Map<Algorithm, String> hashcodes = context.getChecksumIndex().checksums(input, outputs.keySet());
+            for (Map.Entry<Algorithm, Path> entry : outputs.entrySet()) {
+                Path output = entry.getValue();
+                output.toFile().getParentFile().mkdirs();
+                Files.write(output, hashcodes.get(entry.getKey()).getBytes());
+            }
+            return hashcodes;
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", input), e);
         }
     }
+
+    private static final class ChecksumTarget {
+        private final Artifact artifact;
+        private final Distribution distribution;
+
+        private ChecksumTarget(Artifact artifact, Distribution distribution) {
+            this.artifact = artifact;
+            this.distribution = distribution;
+        }
+
+        private Path getEffectivePath(JReleaserContext context) {
+            return null != distribution ? artifact.getEffectivePath(context, distribution) : artifact.getEffectivePath(context);
+        }
+
+        private void readHashes(JReleaserContext context) {
+            if (null != distribution) {
+                Checksum.readHashes(context, distribution, artifact);
+            } else {
+                Checksum.readHashes(context, artifact);
+            }
+        }
+    }
 }
@@ -141,8 +141,14 @@ public final class CommandHookExecutor {
     }
 
     private void executeCommand(Path directory, Command command) throws CommandException {
-        int exitValue = new CommandExecutor(context.getLogger())
-            .executeCommand(directory, command);
+        int exitValue;
+        try {
+            exitValue = new CommandExecutor(context.getLogger())
+                .executeCommand(directory, command);
+        } finally {
+            // hooks may create or delete files
+            context.getFileTreeIndex().clear();
+        }
         if (exitValue != 0) {
             throw new CommandException(RB.$("ERROR_command_execution_exit_value", exitValue));
         }
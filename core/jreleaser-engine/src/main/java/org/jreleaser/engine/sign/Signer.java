@@ -17,15 +17,8 @@
  */
 package org.jreleaser.engine.sign;
 
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
-import org.bouncycastle.openpgp.PGPCompressedData;
-import org.bouncycastle.openpgp.PGPException;
-import org.bouncycastle.openpgp.PGPObjectFactory;
-import org.bouncycastle.openpgp.PGPPublicKey;
-import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPPrivateKey;
 import org.bouncycastle.openpgp.PGPSignatureGenerator;
-import org.bouncycastle.openpgp.PGPUtil;
-import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentVerifierBuilderProvider;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.api.signing.Keyring;
 import org.jreleaser.model.api.signing.SigningException;
@@ -34,20 +27,24 @@ import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.distributions.Distribution;
 import org.jreleaser.model.internal.signing.Signing;
 import org.jreleaser.model.internal.util.Artifacts;
+import org.jreleaser.sdk.signing.BatchSigner;
 import org.jreleaser.sdk.signing.GpgCommandSigner;
 import org.jreleaser.sdk.signing.SigningUtils;
 import org.jreleaser.sdk.tool.Cosign;
 import org.jreleaser.sdk.tool.ToolException;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.SignatureLedger;
+import org.jreleaser.util.Tracer;
 
-import java.io.BufferedInputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -86,7 +83,7 @@ public class Signer {
     }
 
     private static void cmdSign(JReleaserContext context) throws SigningException {
-        List<SigningUtils.FilePair> files = collectArtifacts(context, pair -> SigningUtils.isValid(context.asImmutable(), null, pair));
+        List<SigningUtils.FilePair> files = collectArtifacts(context, pair -> SigningUtils.isValid(context.asImmutable(), null, pair, context.getSignatureLedger()));
         if (files.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             return;
@@ -163,7 +160,7 @@ public class Signer {
     private static void bcSign(JReleaserContext context) throws SigningException {
         Keyring keyring = context.createKeyring();
 
-        List<SigningUtils.FilePair> files = collectArtifacts(context, pair -> SigningUtils.isValid(context.asImmutable(), keyring, pair));
+        List<SigningUtils.FilePair> files = collectArtifacts(context, pair -> SigningUtils.isValid(context.asImmutable(), keyring, pair, context.getSignatureLedger()));
         if (files.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             return;
@@ -178,10 +175,78 @@ public class Signer {
             return;
         }
 
+        int parallelism = context.getModel().getSigning().getParallelism();
+        if (parallelism > 1 && files.size() > 1) {
+            signAndVerify(context, keyring, files, parallelism);
+            return;
+        }
+
         sign(context, keyring, files);
         verify(context, keyring, files);
     }
 
+    private static void signAndVerify(JReleaserContext context, Keyring keyring, List<SigningUtils.FilePair> files, int parallelism) throws SigningException {
+        Path signaturesDirectory = context.getSignaturesDirectory();
+
+        try {
+            Files.createDirectories(signaturesDirectory);
+        } catch (IOException e) {
+            throw new SigningException(RB.$("ERROR_signing_create_signature_dir"), e);
+        }
+
+        context.getLogger().debug(RB.$("signing.signing.files"),
+            files.size(), context.relativizeToBasedir(signaturesDirectory));
+
+        org.jreleaser.model.api.JReleaserContext immutableContext = context.asImmutable();
+        // decrypt the key once, each worker gets its own generator
+        PGPPrivateKey privateKey = SigningUtils.extractPrivateKey(context.getModel().getSigning().asImmutable(), keyring);
+        ThreadLocal<PGPSignatureGenerator> generators = new ThreadLocal<>();
+        SignatureLedger ledger = context.getSignatureLedger();
+        String fingerprint = SigningUtils.keyFingerprint(keyring);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, files.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (SigningUtils.FilePair pair : files) {
+                futures.add(executor.submit(Tracer.inherit(context.withChildLogger(null, () -> {
+                    PGPSignatureGenerator signatureGenerator = generators.get();
+                    if (null == signatureGenerator) {
+                        signatureGenerator = SigningUtils.initSignatureGenerator(keyring, privateKey);
+                        generators.set(signatureGenerator);
+                    }
+
+                    SigningUtils.sign(immutableContext, signatureGenerator, pair.getInputFile(), pair.getSignatureFile());
+                    // verification of this file overlaps signing of the next ones
+                    pair.setValid(SigningUtils.verifySignature(immutableContext, keyring, pair));
+
+                    if (!pair.isValid()) {
+                        throw new SigningException(RB.$("ERROR_signing_verify_file",
+                            context.relativizeToBasedir(pair.getInputFile()),
+                            context.relativizeToBasedir(pair.getSignatureFile())));
+                    }
+                    ledger.record(pair.getInputFile(), pair.getSignatureFile(), fingerprint);
+                    return null;
+                }))));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof SigningException) {
+                        throw (SigningException) e.getCause();
+                    }
+                    throw new SigningException(RB.$("ERROR_unexpected_error_signing"), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SigningException(RB.$("ERROR_unexpected_error_signing"), e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
 
     private static void verify(JReleaserContext context, Keyring keyring, List<SigningUtils.FilePair> files) throws SigningException {
         if (null == keyring) {
@@ -191,6 +256,9 @@ public class Signer {
 
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
+        SignatureLedger ledger = context.getSignatureLedger();
+        String fingerprint = SigningUtils.keyFingerprint(keyring);
+
         for (SigningUtils.FilePair pair : files) {
             pair.setValid(verify(context, keyring, pair));
 
@@ -199,69 +267,45 @@ public class Signer {
                     context.relativizeToBasedir(pair.getInputFile()),
                     context.relativizeToBasedir(pair.getSignatureFile())));
             }
+            ledger.record(pair.getInputFile(), pair.getSignatureFile(), fingerprint);
         }
     }
 
     private static void verify(JReleaserContext context, List<SigningUtils.FilePair> files) throws SigningException {
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
-        for (SigningUtils.FilePair pair : files) {
-            pair.setValid(SigningUtils.verify(context.asImmutable(), pair));
+        org.jreleaser.model.api.JReleaserContext immutableContext = context.asImmutable();
+        GpgCommandSigner commandSigner = SigningUtils.initCommandSigner(immutableContext);
+        SignatureLedger ledger = context.getSignatureLedger();
+        String fingerprint = SigningUtils.keyFingerprint(immutableContext, ledger);
 
-            if (!pair.isValid()) {
-                throw new SigningException(RB.$("ERROR_signing_verify_file",
-                    context.relativizeToBasedir(pair.getInputFile()),
-                    context.relativizeToBasedir(pair.getSignatureFile())));
-            }
-        }
-    }
-
-    private static boolean verify(JReleaserContext context, Keyring keyring, SigningUtils.FilePair filePair) throws SigningException {
         context.getLogger().setPrefix("verify");
-
         try {
-            context.getLogger().debug("{}",
-                context.relativizeToBasedir(filePair.getSignatureFile()));
-
-            InputStream sigInputStream = PGPUtil.getDecoderStream(
-                new BufferedInputStream(
-                    new FileInputStream(filePair.getSignatureFile().toFile())));
-
-            PGPObjectFactory pgpObjFactory = new PGPObjectFactory(sigInputStream, keyring.getKeyFingerPrintCalculator());
-            Iterable<?> pgpSigList = null;
+            batchSigner(context).execute(files, pair -> {
+                context.getLogger().debug("{}", context.relativizeToBasedir(pair.getSignatureFile()));
+                pair.setValid(SigningUtils.verifySignature(immutableContext, commandSigner, pair));
 
-            Object obj = pgpObjFactory.nextObject();
-            if (obj instanceof PGPCompressedData) {
-                PGPCompressedData c1 = (PGPCompressedData) obj;
-                pgpObjFactory = new PGPObjectFactory(c1.getDataStream(), keyring.getKeyFingerPrintCalculator());
-                pgpSigList = (Iterable<?>) pgpObjFactory.nextObject();
-            } else {
-                pgpSigList = (Iterable<?>) obj;
-            }
-
-            InputStream fileInputStream = new BufferedInputStream(new FileInputStream(filePair.getInputFile().toFile()));
-            PGPSignature sig = (PGPSignature) pgpSigList.iterator().next();
-            PGPPublicKey pubKey = keyring.readPublicKey();
-            sig.init(new JcaPGPContentVerifierBuilderProvider()
-                .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
-
-            int ch;
-            while ((ch = fileInputStream.read()) >= 0) {
-                sig.update((byte) ch);
-            }
-
-            fileInputStream.close();
-            sigInputStream.close();
-
-            return sig.verify();
-        } catch (IOException | PGPException e) {
-            throw new SigningException(RB.$("ERROR_signing_verify_signature",
-                context.relativizeToBasedir(filePair.getInputFile())), e);
+                if (!pair.isValid()) {
+                    throw new SigningException(RB.$("ERROR_signing_verify_file",
+                        context.relativizeToBasedir(pair.getInputFile()),
+                        context.relativizeToBasedir(pair.getSignatureFile())));
+                }
+                ledger.record(pair.getInputFile(), pair.getSignatureFile(), fingerprint);
+            });
         } finally {
             context.getLogger().restorePrefix();
         }
     }
 
+    private static BatchSigner batchSigner(JReleaserContext context) {
+        // external processes are forked per file, run a bounded number of them at once
+        return new BatchSigner(context.getModel().getSigning().getParallelism());
+    }
+
+    private static boolean verify(JReleaserContext context, Keyring keyring, SigningUtils.FilePair filePair) throws SigningException {
+        return SigningUtils.verify(context.asImmutable(), keyring, filePair);
+    }
+
     private static void sign(JReleaserContext context, List<SigningUtils.FilePair> files,
                              Cosign cosign, Path privateKeyFile, byte[] password) throws SigningException {
         Path signaturesDirectory = context.getSignaturesDirectory();
@@ -275,27 +319,24 @@ public class Signer {
         context.getLogger().debug(RB.$("signing.signing.files"),
             files.size(), context.relativizeToBasedir(signaturesDirectory));
 
-        for (SigningUtils.FilePair pair : files) {
-            cosign.signBlob(privateKeyFile, password, pair.getInputFile(), signaturesDirectory);
-        }
+        batchSigner(context).execute(files, pair ->
+            cosign.signBlob(privateKeyFile, password, pair.getInputFile(), signaturesDirectory));
     }
 
     private static void verify(JReleaserContext context, List<SigningUtils.FilePair> files,
                                Cosign cosign, Path publicKeyFile) throws SigningException {
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
+        SignatureLedger ledger = context.getSignatureLedger();
+        String fingerprint = cosignKeyFingerprint(context, publicKeyFile);
+
         context.getLogger().setPrefix("verify");
         try {
-            for (SigningUtils.FilePair pair : files) {
+            batchSigner(context).execute(files, pair -> {
                 cosign.verifyBlob(publicKeyFile, pair.getSignatureFile(), pair.getInputFile());
                 pair.setValid(true);
-
-                if (!pair.isValid()) {
-                    throw new SigningException(RB.$("ERROR_signing_verify_file",
-                        context.relativizeToBasedir(pair.getInputFile()),
-                        context.relativizeToBasedir(pair.getSignatureFile())));
-                }
-            }
+                ledger.record(pair.getInputFile(), pair.getSignatureFile(), fingerprint);
+            });
         } finally {
             context.getLogger().restorePrefix();
         }
@@ -313,11 +354,11 @@ public class Signer {
         context.getLogger().debug(RB.$("signing.signing.files"),
             files.size(), context.relativizeToBasedir(signaturesDirectory));
 
-        GpgCommandSigner commandSigner = SigningUtils.initCommandSigner(context.asImmutable());
+        org.jreleaser.model.api.JReleaserContext immutableContext = context.asImmutable();
+        GpgCommandSigner commandSigner = SigningUtils.initCommandSigner(immutableContext);
 
-        for (SigningUtils.FilePair pair : files) {
-            SigningUtils.sign(context.asImmutable(), commandSigner, pair.getInputFile(), pair.getSignatureFile());
-        }
+        batchSigner(context).execute(files, pair ->
+            SigningUtils.sign(immutableContext, commandSigner, pair.getInputFile(), pair.getSignatureFile()));
     }
 
     private static void sign(JReleaserContext context, Keyring keyring, List<SigningUtils.FilePair> files) throws SigningException {
@@ -409,11 +450,29 @@ public class Signer {
             return false;
         }
 
+        SignatureLedger ledger = context.getSignatureLedger();
+        String fingerprint = cosignKeyFingerprint(context, publicKeyFile);
+        if (ledger.isVerified(pair.getInputFile(), pair.getSignatureFile(), fingerprint)) {
+            return true;
+        }
+
         try {
             cosign.verifyBlob(publicKeyFile, pair.getSignatureFile(), pair.getInputFile());
+            ledger.record(pair.getInputFile(), pair.getSignatureFile(), fingerprint);
             return true;
         } catch (SigningException e) {
             return false;
         }
     }
+
+    private static String cosignKeyFingerprint(JReleaserContext context, Path publicKeyFile) {
+        if (null == publicKeyFile) return null;
+
+        try {
+            return "cosign:" + context.getChecksumIndex().checksum(Algorithm.SHA_256, publicKeyFile);
+        } catch (IOException e) {
+            // unknown key, signatures are verified without the ledger
+            return null;
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.upload;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
+import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.upload.Uploader;
+import org.jreleaser.util.Tracer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Runs uploaders on a pool bounded by {@code upload.parallelism}. Each uploader logs through
+ * its own child logger; failures are collected and reported once every uploader has finished.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+final class UploadScheduler {
+    private final JReleaserContext context;
+    private final int parallelism;
+
+    UploadScheduler(JReleaserContext context, int uploaders) {
+        this.context = context;
+        Integer configured = context.getModel().getUpload().getParallelism();
+        this.parallelism = Math.min(null != configured ? configured : 1, uploaders);
+    }
+
+    boolean isConcurrent() {
+        return parallelism > 1;
+    }
+
+    void run(List<Uploader<?>> uploaders, Consumer<Uploader<?>> task) {
+        if (!isConcurrent()) {
+            uploaders.forEach(task);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        Map<Uploader<?>, Future<?>> futures = new LinkedHashMap<>();
+        try {
+            for (Uploader<?> uploader : uploaders) {
+                futures.put(uploader, executor.submit(Tracer.inherit(ExtensionManagerHolder.inherit(
+                    context.withChildLogger(null, () -> {
+                        task.accept(uploader);
+                        return null;
+                    })))));
+            }
+
+            List<RuntimeException> failures = new ArrayList<>();
+            for (Map.Entry<Uploader<?>, Future<?>> e : futures.entrySet()) {
+                try {
+                    e.getValue().get();
+                } catch (ExecutionException x) {
+                    Throwable cause = x.getCause();
+                    Uploader<?> uploader = e.getKey();
+                    context.getLogger().error(RB.$("uploaders.uploader.failed"), uploader.getType(), uploader.getName(), describe(cause));
+                    context.getLogger().trace(cause);
+                    failures.add(cause instanceof RuntimeException ? (RuntimeException) cause :
+                        new JReleaserException(RB.$("ERROR_unexpected_error"), cause));
+                } catch (InterruptedException x) {
+                    Thread.currentThread().interrupt();
+                    throw new JReleaserException(RB.$("ERROR_unexpected_error"), x);
+                }
+            }
+
+            if (failures.size() == 1) {
+                throw failures.get(0);
+            } else if (!failures.isEmpty()) {
+                JReleaserException exception = new JReleaserException(RB.$("ERROR_uploaders_failed", failures.size()), failures.get(0));
+                failures.subList(1, failures.size()).forEach(exception::addSuppressed);
+                throw exception;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String describe(Throwable failure) {
+        // uploaders wrap the actual UploadException in a generic JReleaserException
+        Throwable cause = null != failure.getCause() ? failure.getCause() : failure;
+        return cause.getMessage();
+    }
+}
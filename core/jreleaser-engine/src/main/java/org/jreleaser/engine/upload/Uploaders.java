@@ -23,15 +23,21 @@ import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.common.Artifact;
+import org.jreleaser.model.internal.distributions.Distribution;
 import org.jreleaser.model.internal.upload.Upload;
 import org.jreleaser.model.internal.upload.Uploader;
+import org.jreleaser.model.internal.util.Artifacts;
 import org.jreleaser.model.spi.upload.UploadException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static java.util.stream.Collectors.toList;
+import static org.jreleaser.model.Constants.KEY_PLATFORM_REPLACED;
 import static org.jreleaser.model.internal.JReleaserSupport.supportedUploaders;
+import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
  * @author Andres Almiray
@@ -45,6 +51,33 @@ public class Uploaders {
             return;
         }
 
+        List<Uploader<?>> uploaders = selectUploaders(context, upload);
+        resolvePlatformReplacements(context, uploaders);
+        UploadScheduler scheduler = new UploadScheduler(context, uploaders.size());
+        scheduler.run(uploaders, uploader -> upload(context, uploader, scheduler.isConcurrent()));
+    }
+
+    /**
+     * Distribution artifacts are shared by uploaders that may run concurrently,
+     * properties they read are set here before any of them starts.
+     */
+    private static void resolvePlatformReplacements(JReleaserContext context, List<Uploader<?>> uploaders) {
+        if (uploaders.stream().noneMatch(Uploader::isArtifacts)) return;
+
+        for (Distribution distribution : context.getModel().getActiveDistributions()) {
+            for (Artifact artifact : distribution.getArtifacts()) {
+                if (!artifact.isActive()) continue;
+                String platformReplaced = Artifacts.platformReplaced(artifact, distribution.getPlatform());
+                if (isNotBlank(platformReplaced)) {
+                    artifact.getExtraProperties().put(KEY_PLATFORM_REPLACED, platformReplaced);
+                }
+            }
+        }
+    }
+
+    private static List<Uploader<?>> selectUploaders(JReleaserContext context, Upload upload) {
+        List<Uploader<?>> selected = new ArrayList<>();
+
         if (!context.getIncludedUploaderTypes().isEmpty()) {
             for (String uploaderType : context.getIncludedUploaderTypes()) {
                 // check if the uploaderType is valid
@@ -57,7 +90,7 @@ public class Uploaders {
 
                 if (uploaders.isEmpty()) {
                     context.getLogger().debug(RB.$("uploaders.no.match"), uploaderType);
-                    return;
+                    return selected;
                 }
 
                 if (!context.getIncludedUploaderNames().isEmpty()) {
@@ -76,11 +109,11 @@ public class Uploaders {
                         context.getLogger().info(RB.$("uploaders.upload.with"),
                             uploaderType,
                             uploaderName);
-                        upload(context, uploader);
+                        selected.add(uploader);
                     }
                 } else {
                     context.getLogger().info(RB.$("uploaders.upload.all.artifacts.with"), uploaderType);
-                    uploaders.values().forEach(uploader -> upload(context, uploader));
+                    selected.addAll(uploaders.values());
                 }
             }
         } else if (!context.getIncludedUploaderNames().isEmpty()) {
@@ -91,7 +124,7 @@ public class Uploaders {
 
                 if (!filteredUploaders.isEmpty()) {
                     context.getLogger().info(RB.$("uploaders.upload.all.artifacts.to"), uploaderName);
-                    filteredUploaders.forEach(uploader -> upload(context, uploader));
+                    selected.addAll(filteredUploaders);
                 } else {
                     context.getLogger().warn(RB.$("uploaders.uploader.not.configured2"), uploaderName);
                 }
@@ -108,15 +141,18 @@ public class Uploaders {
                     continue;
                 }
 
-                upload(context, uploader);
+                selected.add(uploader);
             }
         }
+
+        return selected;
     }
 
-    private static void upload(JReleaserContext context, Uploader<?> uploader) {
+    private static void upload(JReleaserContext context, Uploader<?> uploader, boolean concurrent) {
         try {
             context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(uploader.getType());
+            // concurrent uploaders of the same type must remain distinguishable
+            context.getLogger().setPrefix(concurrent ? uploader.getType() + "/" + uploader.getName() : uploader.getType());
             fireUploadEvent(ExecutionEvent.before(JReleaserCommand.UPLOAD.toStep()), context, uploader);
 
             ProjectUploader projectUploader = createProjectUploader(context, uploader);
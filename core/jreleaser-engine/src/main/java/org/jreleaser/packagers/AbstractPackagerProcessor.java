@@ -317,7 +317,7 @@ abstract class AbstractPackagerProcessor<T extends Packager<?>> implements Packa
 
             String platform = artifact.getPlatform();
             String artifactPlatform = isNotBlank(platform) ? capitalize(platform) : "";
-            String platformReplaced = distribution.getPlatform().applyReplacements(platform);
+            String platformReplaced = Artifacts.platformReplaced(artifact, distribution.getPlatform());
             String artifactPlatformReplaced = isNotBlank(platformReplaced) ? capitalize(platformReplaced) : "";
             // add extra properties without clobbering existing keys
             Map<String, Object> artifactProps = artifact.getResolvedExtraProperties(ARTIFACT + artifactPlatform);
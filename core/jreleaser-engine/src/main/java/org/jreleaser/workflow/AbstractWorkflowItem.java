@@ -21,15 +21,22 @@ import org.jreleaser.engine.hooks.CommandHookExecutor;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Andres Almiray
  * @since 1.2.0
  */
 abstract class AbstractWorkflowItem implements WorkflowItem {
     private final JReleaserCommand command;
+    private final Set<JReleaserCommand> dependencies = EnumSet.noneOf(JReleaserCommand.class);
 
-    protected AbstractWorkflowItem(JReleaserCommand command) {
+    protected AbstractWorkflowItem(JReleaserCommand command, JReleaserCommand... dependencies) {
         this.command = command;
+        this.dependencies.addAll(Arrays.asList(dependencies));
     }
 
     @Override
@@ -37,6 +44,11 @@ abstract class AbstractWorkflowItem implements WorkflowItem {
         return command;
     }
 
+    @Override
+    public Set<JReleaserCommand> getDependencies() {
+        return Collections.unmodifiableSet(dependencies);
+    }
+
     @Override
     public void invoke(JReleaserContext context) {
         CommandHookExecutor executor = new CommandHookExecutor(context);
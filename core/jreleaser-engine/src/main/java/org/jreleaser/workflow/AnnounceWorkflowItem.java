@@ -30,7 +30,10 @@ import org.jreleaser.model.spi.announce.AnnounceException;
  */
 class AnnounceWorkflowItem extends AbstractWorkflowItem {
     protected AnnounceWorkflowItem() {
-        super(JReleaserCommand.ANNOUNCE);
+        super(JReleaserCommand.ANNOUNCE,
+            JReleaserCommand.CHANGELOG,
+            JReleaserCommand.RELEASE,
+            JReleaserCommand.PUBLISH);
     }
 
     @Override
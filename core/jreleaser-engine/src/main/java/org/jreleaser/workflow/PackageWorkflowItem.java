@@ -29,7 +29,8 @@ import org.jreleaser.model.internal.JReleaserContext;
  */
 class PackageWorkflowItem extends AbstractWorkflowItem {
     protected PackageWorkflowItem() {
-        super(JReleaserCommand.PACKAGE);
+        super(JReleaserCommand.PACKAGE,
+            JReleaserCommand.PREPARE);
     }
 
     @Override
@@ -29,7 +29,12 @@ import org.jreleaser.model.internal.JReleaserContext;
  */
 class PrepareWorkflowItem extends AbstractWorkflowItem {
     protected PrepareWorkflowItem() {
-        super(JReleaserCommand.PREPARE);
+        super(JReleaserCommand.PREPARE,
+            JReleaserCommand.CHANGELOG,
+            JReleaserCommand.CHECKSUM,
+            // templates read artifact properties set by uploaders and releasers
+            JReleaserCommand.UPLOAD,
+            JReleaserCommand.RELEASE);
     }
 
     @Override
@@ -30,7 +30,12 @@ import org.jreleaser.model.spi.release.ReleaseException;
  */
 class ReleaseWorkflowItem extends AbstractWorkflowItem {
     protected ReleaseWorkflowItem() {
-        super(JReleaserCommand.RELEASE);
+        super(JReleaserCommand.RELEASE,
+            JReleaserCommand.CHANGELOG,
+            JReleaserCommand.CHECKSUM,
+            JReleaserCommand.SIGN,
+            JReleaserCommand.DEPLOY,
+            JReleaserCommand.UPLOAD);
     }
 
     @Override
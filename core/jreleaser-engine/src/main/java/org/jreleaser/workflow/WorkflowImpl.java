@@ -19,16 +19,32 @@ package org.jreleaser.workflow;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.engine.context.ModelValidator;
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
 import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.util.Env;
+import org.jreleaser.util.Tracer;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.jreleaser.util.StringUtils.isTrue;
 import static org.jreleaser.util.TimeUtils.formatDuration;
 
 /**
@@ -38,10 +54,15 @@ import static org.jreleaser.util.TimeUtils.formatDuration;
 class WorkflowImpl implements Workflow {
     private final JReleaserContext context;
     private final List<WorkflowItem> items = new ArrayList<>();
+    private final Object eventLock = new Object();
 
     public WorkflowImpl(JReleaserContext context, List<WorkflowItem> items) {
+        this(context, items, true);
+    }
+
+    WorkflowImpl(JReleaserContext context, List<WorkflowItem> items, boolean validate) {
         this.context = context;
-        ModelValidator.validate(context);
+        if (validate) ModelValidator.validate(context);
         this.items.addAll(items);
     }
 
@@ -85,52 +106,9 @@ class WorkflowImpl implements Workflow {
         }
 
         if (null == startSessionException) {
-            boolean failure = false;
-            for (WorkflowItem item : items) {
-                try {
-                    context.fireWorkflowEvent(ExecutionEvent.before(item.getCommand().toStep()));
-                } catch (WorkflowListenerException beforeException) {
-                    context.getLogger().error(RB.$("listener.failure", beforeException.getListener().getClass().getName()));
-                    context.getLogger().trace(beforeException);
-                    if (!beforeException.getListener().isContinueOnError()) {
-                        listenerException = beforeException.getCause();
-                        break;
-                    }
-                }
-
-                try {
-                    item.invoke(context);
-                } catch (RuntimeException e) {
-                    // terminate
-                    failure = true;
-                    stepException = e;
-
-                    try {
-                        context.fireWorkflowEvent(ExecutionEvent.failure(item.getCommand().toStep(), e));
-                    } catch (WorkflowListenerException failureException) {
-                        context.getLogger().error(RB.$("listener.failure", failureException.getListener().getClass().getName()));
-                        context.getLogger().trace(failureException);
-                        if (!failureException.getListener().isContinueOnError()) {
-                            listenerException = failureException.getCause();
-                            break;
-                        }
-                    }
-                    break;
-                }
-
-                if (!failure) {
-                    try {
-                        context.fireWorkflowEvent(ExecutionEvent.success(item.getCommand().toStep()));
-                    } catch (WorkflowListenerException afterException) {
-                        context.getLogger().error(RB.$("listener.failure", afterException.getListener().getClass().getName()));
-                        context.getLogger().trace(afterException);
-                        if (!afterException.getListener().isContinueOnError()) {
-                            listenerException = afterException.getCause();
-                            break;
-                        }
-                    }
-                }
-            }
+            ItemResult result = isParallel() ? executeGraph() : executeSequential();
+            stepException = result.stepException;
+            listenerException = result.listenerException;
         }
 
         try {
@@ -149,6 +127,7 @@ class WorkflowImpl implements Workflow {
 
         context.getLogger().reset();
         context.report();
+        context.writeTrace();
 
         if (null != startSessionException) {
             context.getLogger().error(RB.$("workflow.failure"), formatDuration(duration));
@@ -184,9 +163,156 @@ class WorkflowImpl implements Workflow {
         }
     }
 
+    private boolean isParallel() {
+        return items.size() > 1 && isTrue(Env.resolve("workflow.parallel", ""));
+    }
+
+    private ItemResult executeSequential() {
+        for (WorkflowItem item : items) {
+            ItemResult result = executeItem(item);
+            if (result.isAbort()) return result;
+        }
+        return ItemResult.SUCCESS;
+    }
+
+    /**
+     * Runs items as soon as the items they depend on have completed. A failure stops
+     * scheduling new items, items already running are allowed to finish.
+     */
+    private ItemResult executeGraph() {
+        Map<JReleaserCommand, Set<JReleaserCommand>> dependencies = new LinkedHashMap<>();
+        Set<JReleaserCommand> seen = EnumSet.noneOf(JReleaserCommand.class);
+        for (WorkflowItem item : items) {
+            // only earlier items may be depended upon, keeps the graph acyclic and honors list order
+            Set<JReleaserCommand> deps = EnumSet.noneOf(JReleaserCommand.class);
+            for (JReleaserCommand dependency : item.getDependencies()) {
+                if (seen.contains(dependency)) deps.add(dependency);
+            }
+            dependencies.put(item.getCommand(), deps);
+            seen.add(item.getCommand());
+        }
+
+        List<WorkflowItem> pending = new ArrayList<>(items);
+        Set<JReleaserCommand> completed = EnumSet.noneOf(JReleaserCommand.class);
+        ItemResult outcome = ItemResult.SUCCESS;
+        int running = 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(items.size());
+        CompletionService<ItemResult> completion = new ExecutorCompletionService<>(executor);
+        Map<Future<ItemResult>, WorkflowItem> futures = new LinkedHashMap<>();
+        try {
+            while (!pending.isEmpty() || running > 0) {
+                if (!outcome.isAbort()) {
+                    for (Iterator<WorkflowItem> it = pending.iterator(); it.hasNext(); ) {
+                        WorkflowItem item = it.next();
+                        if (completed.containsAll(dependencies.get(item.getCommand()))) {
+                            it.remove();
+                            futures.put(completion.submit(Tracer.inherit(ExtensionManagerHolder.inherit(
+                                context.withChildLogger(null, () -> executeItem(item))))), item);
+                            running++;
+                        }
+                    }
+                } else {
+                    pending.clear();
+                }
+
+                if (running == 0) break;
+
+                Future<ItemResult> future = completion.take();
+                running--;
+                ItemResult result = future.get();
+                if (result.isAbort()) {
+                    if (!outcome.isAbort()) outcome = result;
+                } else {
+                    completed.add(futures.get(future).getCommand());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ItemResult.step(new JReleaserException(RB.$("ERROR_unexpected_error"), e));
+        } catch (ExecutionException e) {
+            return ItemResult.step(new JReleaserException(RB.$("ERROR_unexpected_error"), e.getCause()));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return outcome;
+    }
+
+    private ItemResult executeItem(WorkflowItem item) {
+        try {
+            fireWorkflowEvent(ExecutionEvent.before(item.getCommand().toStep()));
+        } catch (WorkflowListenerException beforeException) {
+            context.getLogger().error(RB.$("listener.failure", beforeException.getListener().getClass().getName()));
+            context.getLogger().trace(beforeException);
+            if (!beforeException.getListener().isContinueOnError()) {
+                return ItemResult.listener(null, beforeException.getCause());
+            }
+        }
+
+        try {
+            item.invoke(context);
+        } catch (RuntimeException e) {
+            // terminate
+            try {
+                fireWorkflowEvent(ExecutionEvent.failure(item.getCommand().toStep(), e));
+            } catch (WorkflowListenerException failureException) {
+                context.getLogger().error(RB.$("listener.failure", failureException.getListener().getClass().getName()));
+                context.getLogger().trace(failureException);
+                if (!failureException.getListener().isContinueOnError()) {
+                    return ItemResult.listener(e, failureException.getCause());
+                }
+            }
+            return ItemResult.step(e);
+        }
+
+        try {
+            fireWorkflowEvent(ExecutionEvent.success(item.getCommand().toStep()));
+        } catch (WorkflowListenerException afterException) {
+            context.getLogger().error(RB.$("listener.failure", afterException.getListener().getClass().getName()));
+            context.getLogger().trace(afterException);
+            if (!afterException.getListener().isContinueOnError()) {
+                return ItemResult.listener(null, afterException.getCause());
+            }
+        }
+
+        return ItemResult.SUCCESS;
+    }
+
+    private void fireWorkflowEvent(ExecutionEvent event) throws WorkflowListenerException {
+        // listeners are not required to be thread safe
+        synchronized (eventLock) {
+            context.fireWorkflowEvent(event);
+        }
+    }
+
     private void logFilters(String key, List<String> input) {
         if (!input.isEmpty()) {
             context.getLogger().info(RB.$(key, input));
         }
     }
+
+    private static final class ItemResult {
+        private static final ItemResult SUCCESS = new ItemResult(null, null);
+
+        private final RuntimeException stepException;
+        private final Throwable listenerException;
+
+        private ItemResult(RuntimeException stepException, Throwable listenerException) {
+            this.stepException = stepException;
+            this.listenerException = listenerException;
+        }
+
+        private static ItemResult step(RuntimeException stepException) {
+            return new ItemResult(stepException, null);
+        }
+
+        private static ItemResult listener(RuntimeException stepException, Throwable listenerException) {
+            return new ItemResult(stepException, listenerException);
+        }
+
+        private boolean isAbort() {
+            return null != stepException || null != listenerException;
+        }
+    }
 }
@@ -20,6 +20,9 @@ package org.jreleaser.workflow;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
@@ -27,5 +30,15 @@ import org.jreleaser.model.internal.JReleaserContext;
 public interface WorkflowItem {
     JReleaserCommand getCommand();
 
+    /**
+     * Commands whose results this item consumes. Dependencies that are not part of
+     * the running workflow are ignored.
+     *
+     * @since 1.4.0
+     */
+    default Set<JReleaserCommand> getDependencies() {
+        return Collections.emptySet();
+    }
+
     void invoke(JReleaserContext context);
 }
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.upload;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.internal.upload.Upload;
+import org.jreleaser.model.internal.upload.Uploader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class UploadSchedulerTest {
+    private final List<String> attempted = Collections.synchronizedList(new ArrayList<>());
+    private final Upload upload = new Upload();
+    private JReleaserContext context;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        JReleaserModel model = mock(JReleaserModel.class);
+        when(model.getUpload()).thenReturn(upload);
+        context = mock(JReleaserContext.class);
+        when(context.getModel()).thenReturn(model);
+        when(context.getLogger()).thenReturn(mock(JReleaserLogger.class));
+        when(context.withChildLogger(any(), any())).thenAnswer(invocation -> invocation.getArgument(1, Callable.class));
+    }
+
+    @Test
+    public void attemptsEveryUploader() {
+        // given:
+        upload.setParallelism(2);
+        List<Uploader<?>> uploaders = uploaders("a", "b", "c", "d");
+
+        // when:
+        new UploadScheduler(context, uploaders.size()).run(uploaders, uploader -> attempted.add(uploader.getName()));
+
+        // then:
+        assertThat(attempted, containsInAnyOrder("a", "b", "c", "d"));
+    }
+
+    @Test
+    public void rethrowsASingleFailureAsIs() {
+        // given:
+        upload.setParallelism(2);
+        List<Uploader<?>> uploaders = uploaders("a", "b", "c");
+        JReleaserException failure = new JReleaserException("b failed");
+
+        // when:
+        JReleaserException thrown = assertThrows(JReleaserException.class, () ->
+            new UploadScheduler(context, uploaders.size()).run(uploaders, uploader -> {
+                attempted.add(uploader.getName());
+                if ("b".equals(uploader.getName())) throw failure;
+            }));
+
+        // then:
+        assertThat(thrown, sameInstance(failure));
+        assertThat(attempted, containsInAnyOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void aggregatesMultipleFailures() {
+        // given:
+        upload.setParallelism(3);
+        List<Uploader<?>> uploaders = uploaders("a", "b", "c");
+        JReleaserException first = new JReleaserException("a failed");
+        JReleaserException second = new JReleaserException("c failed");
+
+        // when:
+        JReleaserException thrown = assertThrows(JReleaserException.class, () ->
+            new UploadScheduler(context, uploaders.size()).run(uploaders, uploader -> {
+                attempted.add(uploader.getName());
+                if ("a".equals(uploader.getName())) throw first;
+                if ("c".equals(uploader.getName())) throw second;
+            }));
+
+        // then:
+        assertThat(thrown.getMessage(), equalTo(RB.$("ERROR_uploaders_failed", 2)));
+        assertThat(thrown.getCause(), sameInstance(first));
+        assertThat(thrown.getSuppressed(), arrayContaining(second));
+        assertThat(attempted, containsInAnyOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void runsSequentiallyWithoutParallelism() {
+        // given:
+        upload.setParallelism(1);
+        List<Uploader<?>> uploaders = uploaders("a", "b", "c");
+        UploadScheduler scheduler = new UploadScheduler(context, uploaders.size());
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        // when:
+        scheduler.run(uploaders, uploader -> {
+            attempted.add(uploader.getName());
+            threads.add(Thread.currentThread());
+        });
+
+        // then:
+        assertThat(scheduler.isConcurrent(), is(false));
+        assertThat(attempted, equalTo(Arrays.asList("a", "b", "c")));
+        assertThat(threads, equalTo(Arrays.asList(caller, caller, caller)));
+    }
+
+    private static List<Uploader<?>> uploaders(String... names) {
+        List<Uploader<?>> uploaders = new ArrayList<>();
+        for (String name : names) {
+            Uploader<?> uploader = mock(Uploader.class);
+            when(uploader.getType()).thenReturn("stub");
+            when(uploader.getName()).thenReturn(name);
+            uploaders.add(uploader);
+        }
+        return uploaders;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.workflow;
+
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.api.JReleaserCommand;
+import org.jreleaser.model.api.hooks.ExecutionEvent;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class WorkflowImplTest {
+    private static final String PARALLEL = "jreleaser.workflow.parallel";
+
+    private final List<String> log = Collections.synchronizedList(new ArrayList<>());
+    private final List<ExecutionEvent> events = Collections.synchronizedList(new ArrayList<>());
+    private JReleaserContext context;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        System.setProperty(PARALLEL, "true");
+        context = mock(JReleaserContext.class);
+        when(context.getLogger()).thenReturn(mock(JReleaserLogger.class));
+        when(context.withChildLogger(any(), any())).thenAnswer(invocation -> invocation.getArgument(1, Callable.class));
+        doAnswer(invocation -> {
+            events.add(invocation.getArgument(0));
+            return null;
+        }).when(context).fireWorkflowEvent(any(ExecutionEvent.class));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        System.clearProperty(PARALLEL);
+    }
+
+    @Test
+    public void prepareWaitsForUploadAndRelease() {
+        // given:
+        Set<JReleaserCommand> dependencies = new PrepareWorkflowItem().getDependencies();
+
+        // then:
+        assertThat(dependencies, hasItems(JReleaserCommand.UPLOAD, JReleaserCommand.RELEASE));
+    }
+
+    @Test
+    public void runsItemsAfterTheirDependencies() {
+        // given:
+        List<WorkflowItem> items = Arrays.asList(
+            stub(new ChangelogWorkflowItem()),
+            stub(new ChecksumWorkflowItem()),
+            stub(new SignWorkflowItem()),
+            stub(new DeployWorkflowItem()),
+            stub(new UploadWorkflowItem()),
+            stub(new ReleaseWorkflowItem()),
+            stub(new PrepareWorkflowItem()),
+            stub(new PackageWorkflowItem()),
+            stub(new PublishWorkflowItem()),
+            stub(new AnnounceWorkflowItem()));
+
+        // when:
+        new WorkflowImpl(context, items, false).execute();
+
+        // then:
+        for (WorkflowItem item : items) {
+            assertThat(log, hasItem("end:" + item.getCommand()));
+            for (JReleaserCommand dependency : item.getDependencies()) {
+                assertThat(log.indexOf("end:" + dependency), lessThan(log.indexOf("start:" + item.getCommand())));
+            }
+        }
+    }
+
+    @Test
+    public void stopsSchedulingAfterAFailure() {
+        // given:
+        IllegalStateException failure = new IllegalStateException("boom");
+        List<WorkflowItem> items = Arrays.asList(
+            new StubItem(JReleaserCommand.CHANGELOG, failure, 0),
+            new StubItem(JReleaserCommand.CHECKSUM, null, 200),
+            new StubItem(JReleaserCommand.SIGN, null, 0, JReleaserCommand.CHECKSUM),
+            new StubItem(JReleaserCommand.RELEASE, null, 0, JReleaserCommand.CHANGELOG));
+
+        // when:
+        RuntimeException thrown = assertThrows(RuntimeException.class,
+            () -> new WorkflowImpl(context, items, false).execute());
+
+        // then:
+        assertThat(thrown, sameInstance(failure));
+        assertThat(log, hasItem("end:" + JReleaserCommand.CHECKSUM));
+        assertThat(log, not(hasItem("start:" + JReleaserCommand.SIGN)));
+        assertThat(log, not(hasItem("start:" + JReleaserCommand.RELEASE)));
+    }
+
+    @Test
+    public void firesBeforeSuccessAndFailureEvents() {
+        // given:
+        IllegalStateException failure = new IllegalStateException("boom");
+        List<WorkflowItem> items = Arrays.asList(
+            new StubItem(JReleaserCommand.CHANGELOG, null, 0),
+            new StubItem(JReleaserCommand.CHECKSUM, failure, 0));
+
+        // when:
+        assertThrows(RuntimeException.class, () -> new WorkflowImpl(context, items, false).execute());
+
+        // then:
+        List<String> fired = new ArrayList<>();
+        for (ExecutionEvent event : events) {
+            fired.add(event.getType() + ":" + event.getName());
+            if (event.getType() == ExecutionEvent.Type.FAILURE) {
+                assertThat(event.getFailure(), sameInstance(failure));
+            }
+        }
+        assertThat(fired, containsInAnyOrder(
+            "before:changelog",
+            "success:changelog",
+            "before:checksum",
+            "failure:checksum"));
+    }
+
+    private WorkflowItem stub(WorkflowItem item) {
+        return new StubItem(item.getCommand(), null, 10,
+            item.getDependencies().toArray(new JReleaserCommand[0]));
+    }
+
+    private final class StubItem implements WorkflowItem {
+        private final JReleaserCommand command;
+        private final Set<JReleaserCommand> dependencies;
+        private final RuntimeException failure;
+        private final long delay;
+
+        private StubItem(JReleaserCommand command, RuntimeException failure, long delay, JReleaserCommand... dependencies) {
+            this.command = command;
+            this.failure = failure;
+            this.delay = delay;
+            this.dependencies = new LinkedHashSet<>(Arrays.asList(dependencies));
+        }
+
+        @Override
+        public JReleaserCommand getCommand() {
+            return command;
+        }
+
+        @Override
+        public Set<JReleaserCommand> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public void invoke(JReleaserContext context) {
+            log.add("start:" + command);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (null != failure) throw failure;
+            log.add("end:" + command);
+        }
+    }
+}
@@ -44,9 +44,14 @@ import org.jreleaser.model.internal.project.Project;
 import org.jreleaser.model.internal.release.BaseReleaser;
 import org.jreleaser.sdk.signing.FilesKeyring;
 import org.jreleaser.sdk.signing.InMemoryKeyring;
+import org.jreleaser.util.ChecksumIndex;
 import org.jreleaser.util.Errors;
+import org.jreleaser.util.FileTreeIndex;
+import org.jreleaser.util.LayeredMap;
 import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.SignatureLedger;
 import org.jreleaser.util.StringUtils;
+import org.jreleaser.util.Tracer;
 import org.jreleaser.version.SemanticVersion;
 
 import java.io.FileOutputStream;
@@ -65,6 +70,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.unmodifiableList;
@@ -134,10 +140,20 @@ public class JReleaserContext {
     private final List<String> excludedUploaderTypes = new ArrayList<>();
     private final List<String> excludedUploaderNames = new ArrayList<>();
     private final List<WorkflowListener> workflowListeners = new ArrayList<>();
+    private final Tracer tracer = new Tracer();
+    private final Object propsLock = new Object();
+    // props layers are memoized once the model has been validated
+    private volatile boolean propsFrozen;
+    private volatile Map<String, Object> modelProps;
+    private volatile Map<String, Object> contextProps;
+    private final ThreadLocal<JReleaserLogger> taskLogger = new ThreadLocal<>();
 
     private String changelog;
     private org.jreleaser.model.spi.release.Releaser<?> releaser;
     private JReleaserCommand command;
+    private ChecksumIndex checksumIndex;
+    private SignatureLedger signatureLedger;
+    private FileTreeIndex fileTreeIndex;
 
     private final org.jreleaser.model.api.JReleaserContext immutable = new org.jreleaser.model.api.JReleaserContext() {
         @Override
@@ -152,7 +168,7 @@ public class JReleaserContext {
 
         @Override
         public JReleaserLogger getLogger() {
-            return logger;
+            return JReleaserContext.this.getLogger();
         }
 
         @Override
@@ -415,6 +431,10 @@ public class JReleaserContext {
     public Errors validateModel() {
         if (errors.hasErrors()) return errors;
 
+        propsFrozen = false;
+        modelProps = null;
+        contextProps = null;
+
         this.model.getEnvironment().initProps(this);
 
         logger.info(RB.$("context.configuration.validation"));
@@ -437,6 +457,8 @@ public class JReleaserContext {
         if (errors.hasErrors()) {
             logger.error("== JReleaser ==");
             errors.logErrors(logger);
+        } else {
+            propsFrozen = true;
         }
 
         return errors;
@@ -514,7 +536,31 @@ public class JReleaserContext {
     }
 
     public JReleaserLogger getLogger() {
-        return logger;
+        JReleaserLogger scoped = taskLogger.get();
+        return null != scoped ? scoped : logger;
+    }
+
+    /**
+     * Wraps a task that may run concurrently with others so that it logs through a child
+     * of the current logger, keeping its prefix and indentation apart from other tasks.
+     *
+     * @since 1.4.0
+     */
+    public <V> Callable<V> withChildLogger(String prefix, Callable<V> task) {
+        JReleaserLogger child = getLogger().child(prefix);
+        return () -> {
+            JReleaserLogger previous = taskLogger.get();
+            taskLogger.set(child);
+            try {
+                return task.call();
+            } finally {
+                if (null != previous) {
+                    taskLogger.set(previous);
+                } else {
+                    taskLogger.remove();
+                }
+            }
+        };
     }
 
     public Configurer getConfigurer() {
@@ -545,6 +591,31 @@ public class JReleaserContext {
         return outputDirectory.resolve("signatures");
     }
 
+    public synchronized ChecksumIndex getChecksumIndex() {
+        if (null == checksumIndex) {
+            checksumIndex = new ChecksumIndex(outputDirectory.resolve("checksums.idx"));
+        }
+        return checksumIndex;
+    }
+
+    public synchronized SignatureLedger getSignatureLedger() {
+        if (null == signatureLedger) {
+            signatureLedger = new SignatureLedger(outputDirectory.resolve("signatures.idx"), getChecksumIndex());
+        }
+        return signatureLedger;
+    }
+
+    public synchronized FileTreeIndex getFileTreeIndex() {
+        if (null == fileTreeIndex) {
+            fileTreeIndex = new FileTreeIndex(outputDirectory);
+        }
+        return fileTreeIndex;
+    }
+
+    public Tracer getTracer() {
+        return tracer;
+    }
+
     public Path getPrepareDirectory() {
         return outputDirectory.resolve("prepare");
     }
@@ -802,23 +873,52 @@ public class JReleaserContext {
     }
 
     public Map<String, Object> props() {
-        Map<String, Object> props = new LinkedHashMap<>(model.props());
-        props.put(Constants.KEY_BASEDIR, getBasedir());
-        props.put(Constants.KEY_BASE_OUTPUT_DIRECTORY, getOutputDirectory().getParent());
-        props.put(Constants.KEY_OUTPUT_DIRECTORY, getOutputDirectory());
-        props.put(Constants.KEY_CHECKSUMS_DIRECTORY, getChecksumsDirectory());
-        props.put(Constants.KEY_SIGNATURES_DIRECTORY, getSignaturesDirectory());
-        props.put(Constants.KEY_PREPARE_DIRECTORY, getPrepareDirectory());
-        props.put(Constants.KEY_PACKAGE_DIRECTORY, getPackageDirectory());
-        props.put(Constants.KEY_DOWNLOAD_DIRECTORY, getDownloadDirectory());
-        props.put(Constants.KEY_ASSEMBLE_DIRECTORY, getAssembleDirectory());
-        props.put(Constants.KEY_ARTIFACTS_DIRECTORY, getArtifactsDirectory());
+        Map<String, Object> props = new LinkedHashMap<>(modelProps());
+        props.putAll(contextProps());
         return props;
     }
 
+    /**
+     * Model properties layered over context properties. Layers are shared and computed once
+     * the model has been validated; writes made by the caller stay local to the returned map.
+     */
     public Map<String, Object> fullProps() {
-        LinkedHashMap<String, Object> props = new LinkedHashMap<>(props());
-        props.putAll(model.props());
+        return LayeredMap.of(modelProps(), contextProps());
+    }
+
+    private Map<String, Object> modelProps() {
+        if (!propsFrozen) return model.props();
+
+        Map<String, Object> props = modelProps;
+        if (null == props) {
+            synchronized (propsLock) {
+                props = modelProps;
+                if (null == props) {
+                    props = Collections.unmodifiableMap(model.props());
+                    modelProps = props;
+                }
+            }
+        }
+        return props;
+    }
+
+    private Map<String, Object> contextProps() {
+        Map<String, Object> props = contextProps;
+        if (null == props) {
+            props = new LinkedHashMap<>();
+            props.put(Constants.KEY_BASEDIR, getBasedir());
+            props.put(Constants.KEY_BASE_OUTPUT_DIRECTORY, getOutputDirectory().getParent());
+            props.put(Constants.KEY_OUTPUT_DIRECTORY, getOutputDirectory());
+            props.put(Constants.KEY_CHECKSUMS_DIRECTORY, getChecksumsDirectory());
+            props.put(Constants.KEY_SIGNATURES_DIRECTORY, getSignaturesDirectory());
+            props.put(Constants.KEY_PREPARE_DIRECTORY, getPrepareDirectory());
+            props.put(Constants.KEY_PACKAGE_DIRECTORY, getPackageDirectory());
+            props.put(Constants.KEY_DOWNLOAD_DIRECTORY, getDownloadDirectory());
+            props.put(Constants.KEY_ASSEMBLE_DIRECTORY, getAssembleDirectory());
+            props.put(Constants.KEY_ARTIFACTS_DIRECTORY, getArtifactsDirectory());
+            props = Collections.unmodifiableMap(props);
+            contextProps = props;
+        }
         return props;
     }
 
@@ -885,6 +985,17 @@ public class JReleaserContext {
         }
     }
 
+    public void writeTrace() {
+        Path output = getOutputDirectory().resolve("trace.json");
+
+        try {
+            logger.info(RB.$("context.writing.trace"), relativizeToBasedir(output));
+            tracer.write(output);
+        } catch (IOException ignored) {
+            logger.warn(RB.$("context.writing.trace.error"), relativizeToBasedir(output));
+        }
+    }
+
     public void nag(String version, String message) {
         logger.warn(RB.$("context.nag", message, version));
     }
@@ -922,6 +1033,7 @@ public class JReleaserContext {
     }
 
     public void fireSessionStartEvent() throws WorkflowListenerException {
+        tracer.begin("session", "session");
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onSessionStart(this.asImmutable());
@@ -932,6 +1044,7 @@ public class JReleaserContext {
     }
 
     public void fireSessionEndEvent() throws WorkflowListenerException {
+        tracer.end("session", "session");
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onSessionEnd(this.asImmutable());
@@ -942,16 +1055,25 @@ public class JReleaserContext {
     }
 
     public void fireWorkflowEvent(ExecutionEvent event) throws WorkflowListenerException {
-        for (WorkflowListener workflowListener : workflowListeners) {
-            try {
-                workflowListener.onWorkflowStep(event, this.asImmutable());
-            } catch (RuntimeException e) {
-                throw new WorkflowListenerException(workflowListener, e);
+        event = trace(event, "workflow", event.getName());
+        if (workflowListeners.isEmpty()) return;
+
+        try {
+            for (WorkflowListener workflowListener : workflowListeners) {
+                try {
+                    workflowListener.onWorkflowStep(event, this.asImmutable());
+                } catch (RuntimeException e) {
+                    throw new WorkflowListenerException(workflowListener, e);
+                }
             }
+        } finally {
+            // listeners may have touched the filesystem
+            getFileTreeIndex().clear();
         }
     }
 
     public void fireAnnounceStepEvent(ExecutionEvent event, Announcer announcer) throws WorkflowListenerException {
+        event = trace(event, "announce", announcer.getName());
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onAnnounceStep(event, this.asImmutable(), announcer);
@@ -962,6 +1084,7 @@ public class JReleaserContext {
     }
 
     public void fireAssembleStepEvent(ExecutionEvent event, Assembler assembler) throws WorkflowListenerException {
+        event = trace(event, "assemble", assembler.getType() + "/" + assembler.getName());
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onAssembleStep(event, this.asImmutable(), assembler);
@@ -972,6 +1095,7 @@ public class JReleaserContext {
     }
 
     public void fireDeployStepEvent(ExecutionEvent event, Deployer deployer) throws WorkflowListenerException {
+        event = trace(event, "deploy", deployer.getType() + "/" + deployer.getName());
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onDeployStep(event, this.asImmutable(), deployer);
@@ -982,6 +1106,7 @@ public class JReleaserContext {
     }
 
     public void fireDownloadStepEvent(ExecutionEvent event, Downloader downloader) throws WorkflowListenerException {
+        event = trace(event, "download", downloader.getType() + "/" + downloader.getName());
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onDownloadStep(event, this.asImmutable(), downloader);
@@ -992,6 +1117,7 @@ public class JReleaserContext {
     }
 
     public void fireUploadStepEvent(ExecutionEvent event, Uploader uploader) throws WorkflowListenerException {
+        event = trace(event, "upload", uploader.getType() + "/" + uploader.getName());
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onUploadStep(event, this.asImmutable(), uploader);
@@ -1002,6 +1128,7 @@ public class JReleaserContext {
     }
 
     public void fireReleaseStepEvent(ExecutionEvent event, Releaser releaser) throws WorkflowListenerException {
+        event = trace(event, "release", releaser.getServiceName());
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onReleaseStep(event, this.asImmutable(), releaser);
@@ -1032,6 +1159,7 @@ public class JReleaserContext {
     }
 
     public void firePackagerPackageEvent(ExecutionEvent event, Distribution distribution, Packager packager) throws WorkflowListenerException {
+        event = trace(event, "package", distribution.getName() + "/" + packager.getType());
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onPackagerPackageStep(event, this.asImmutable(), distribution, packager);
@@ -1042,6 +1170,7 @@ public class JReleaserContext {
     }
 
     public void firePackagerPublishEvent(ExecutionEvent event, Distribution distribution, Packager packager) throws WorkflowListenerException {
+        event = trace(event, "publish", distribution.getName() + "/" + packager.getType());
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onPackagerPublishStep(event, this.asImmutable(), distribution, packager);
@@ -1052,6 +1181,7 @@ public class JReleaserContext {
     }
 
     public void firePackagerPrepareEvent(ExecutionEvent event, Distribution distribution, Packager packager) throws WorkflowListenerException {
+        event = trace(event, "prepare", distribution.getName() + "/" + packager.getType());
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onPackagerPrepareStep(event, this.asImmutable(), distribution, packager);
@@ -1061,6 +1191,14 @@ public class JReleaserContext {
         }
     }
 
+    private ExecutionEvent trace(ExecutionEvent event, String category, String name) {
+        if (event.getType() == ExecutionEvent.Type.BEFORE) {
+            tracer.begin(category, name);
+            return event;
+        }
+        return event.withMetrics(tracer.end(category, name));
+    }
+
     public enum Configurer {
         CLI("CLI flags"),
         CLI_YAML("CLI yaml DSL"),
@@ -40,6 +40,7 @@ public final class Checksum extends AbstractModelObject<Checksum> implements Dom
     private Boolean individual;
     private String name;
     private Boolean files;
+    private Integer parallelism;
 
     private final org.jreleaser.model.api.checksum.Checksum immutable = new org.jreleaser.model.api.checksum.Checksum() {
         @Override
@@ -62,6 +63,11 @@ public final class Checksum extends AbstractModelObject<Checksum> implements Dom
             return Checksum.this.isFiles();
         }
 
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
         @Override
         public Map<String, Object> asMap(boolean full) {
             return unmodifiableMap(Checksum.this.asMap(full));
@@ -77,6 +83,7 @@ public final class Checksum extends AbstractModelObject<Checksum> implements Dom
         this.name = merge(this.name, source.name);
         this.individual = merge(this.individual, source.individual);
         this.files = merge(this.files, source.files);
+        this.parallelism = merge(this.parallelism, source.parallelism);
         setAlgorithms(merge(this.algorithms, source.algorithms));
     }
 
@@ -139,6 +146,14 @@ public final class Checksum extends AbstractModelObject<Checksum> implements Dom
         return files != null;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> props = new LinkedHashMap<>();
@@ -146,6 +161,7 @@ public final class Checksum extends AbstractModelObject<Checksum> implements Dom
         props.put("individual", isIndividual());
         props.put("algorithms", algorithms);
         props.put("files", isFiles());
+        props.put("parallelism", parallelism);
         return props;
     }
 }
@@ -31,9 +31,12 @@ import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.nio.file.Files.exists;
@@ -61,6 +64,8 @@ public final class Artifact extends AbstractModelObject<Artifact> implements Dom
     private Path effectivePath;
     @JsonIgnore
     private Path resolvedPath;
+    @JsonIgnore
+    private final Map<String, Memo> memos = new ConcurrentHashMap<>();
 
     private final org.jreleaser.model.api.common.Artifact immutable = new org.jreleaser.model.api.common.Artifact() {
         @Override
@@ -127,6 +132,7 @@ public final class Artifact extends AbstractModelObject<Artifact> implements Dom
 
     @Override
     public void merge(Artifact source) {
+        this.memos.clear();
         this.effectivePath = merge(this.effectivePath, source.effectivePath);
         this.path = merge(this.path, source.path);
         this.platform = merge(this.platform, source.platform);
@@ -165,6 +171,7 @@ public final class Artifact extends AbstractModelObject<Artifact> implements Dom
     }
 
     public void setPath(String path) {
+        this.memos.clear();
         this.path = path;
         this.resolvedPath = null;
         this.effectivePath = null;
@@ -203,6 +210,7 @@ public final class Artifact extends AbstractModelObject<Artifact> implements Dom
     }
 
     public void setPlatform(String platform) {
+        this.memos.clear();
         this.platform = platform;
     }
 
@@ -211,6 +219,7 @@ public final class Artifact extends AbstractModelObject<Artifact> implements Dom
     }
 
     public void setTransform(String transform) {
+        this.memos.clear();
         this.transform = transform;
     }
 
@@ -360,11 +369,27 @@ public final class Artifact extends AbstractModelObject<Artifact> implements Dom
 
     public void mergeWith(Artifact other) {
         if (this == other) return;
+        this.memos.clear();
         if (isBlank(this.platform)) this.platform = other.platform;
         if (isBlank(this.transform)) this.transform = other.transform;
         mergeExtraProperties(other.extraProperties);
     }
 
+    /**
+     * Returns the value computed by {@code supplier}, reusing the last value computed under
+     * the same name for as long as {@code inputs} stay equal. Memoized values are dropped
+     * whenever the path, platform or transform of this artifact change.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T memoize(String name, List<?> inputs, Supplier<T> supplier) {
+        Memo memo = memos.get(name);
+        if (null == memo || !memo.inputs.equals(inputs)) {
+            memo = new Memo(inputs, supplier.get());
+            memos.put(name, memo);
+        }
+        return (T) memo.value;
+    }
+
     public Artifact copy() {
         Artifact copy = new Artifact();
         copy.mergeWith(this);
@@ -422,4 +447,14 @@ public final class Artifact extends AbstractModelObject<Artifact> implements Dom
         artifact.platform = platform;
         return artifact;
     }
+
+    private static final class Memo {
+        private final List<?> inputs;
+        private final Object value;
+
+        private Memo(List<?> inputs, Object value) {
+            this.inputs = inputs;
+            this.value = value;
+        }
+    }
 }
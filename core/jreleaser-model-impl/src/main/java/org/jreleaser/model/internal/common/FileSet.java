@@ -18,24 +18,19 @@
 package org.jreleaser.model.internal.common;
 
 import org.jreleaser.bundle.RB;
-import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.util.FileTreeIndex;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
-import static java.nio.file.FileVisitResult.CONTINUE;
-import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.toSet;
@@ -239,26 +234,26 @@ public final class FileSet extends AbstractModelObject<FileSet> implements Domai
             return new LinkedHashSet<>();
         }
 
-        GlobResolver resolver = new GlobResolver(context.getLogger(), basedir, resolvedIncludes, resolvedExcludes);
+        GlobResolver resolver = new GlobResolver(basedir, resolvedIncludes, resolvedExcludes);
+        FileTreeIndex.Listing listing = context.getFileTreeIndex().list(basedir, resolver.isRecursive());
+        listing.getPaths().forEach(resolver::match);
 
-        java.nio.file.Files.walkFileTree(basedir, resolver);
-        if (resolver.failed) {
+        if (listing.isFailed()) {
+            listing.getFailures().forEach((file, e) -> context.getLogger().error(RB.$("ERROR_artifacts_unexpected_error_path"),
+                basedir.toAbsolutePath().relativize(file.toAbsolutePath()), e));
             throw new IOException(RB.$("ERROR_artifacts_glob_resolution"));
         }
 
         return resolver.paths;
     }
 
-    private static final class GlobResolver extends SimpleFileVisitor<Path> {
-        private final JReleaserLogger logger;
+    private static final class GlobResolver {
         private final Set<ExtPathMatcher> includes = new LinkedHashSet<>();
         private final Set<ExtPathMatcher> excludes = new LinkedHashSet<>();
         private final Path basedir;
         private final Set<Path> paths = new LinkedHashSet<>();
-        private boolean failed;
 
-        private GlobResolver(JReleaserLogger logger, Path basedir, Set<String> includes, Set<String> excludes) {
-            this.logger = logger;
+        private GlobResolver(Path basedir, Set<String> includes, Set<String> excludes) {
             this.basedir = basedir;
 
             FileSystem fileSystem = FileSystems.getDefault();
@@ -270,6 +265,10 @@ public final class FileSet extends AbstractModelObject<FileSet> implements Domai
             }
         }
 
+        private boolean isRecursive() {
+            return includes.stream().anyMatch(matcher -> matcher.recursive);
+        }
+
         private void match(Path path) {
             if (includes.stream().anyMatch(matcher -> matches(path, matcher)) &&
                 excludes.stream().noneMatch(matcher -> matches(path, matcher))) {
@@ -285,31 +284,6 @@ public final class FileSet extends AbstractModelObject<FileSet> implements Domai
                     matcher.matcher.matches(path.getFileName());
             }
         }
-
-        @Override
-        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-            if (basedir.normalize().equals(dir.normalize())) return CONTINUE;
-
-            if (includes.stream().anyMatch(matcher -> matcher.recursive)) {
-                return CONTINUE;
-            } else {
-                return SKIP_SUBTREE;
-            }
-        }
-
-        @Override
-        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            match(file);
-            return CONTINUE;
-        }
-
-        @Override
-        public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException {
-            failed = true;
-            logger.error(RB.$("ERROR_artifacts_unexpected_error_path"),
-                basedir.toAbsolutePath().relativize(file.toAbsolutePath()), e);
-            return CONTINUE;
-        }
     }
 
     private static final class ExtPathMatcher {
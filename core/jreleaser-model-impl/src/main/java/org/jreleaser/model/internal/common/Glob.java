@@ -171,6 +171,10 @@ public final class Glob extends AbstractModelObject<Glob> implements Domain, Ext
         return artifacts;
     }
 
+    public Path getResolvedDirectory(JReleaserContext context) {
+        return resolveDirectory(context);
+    }
+
     private Path resolveDirectory(JReleaserContext context) {
         // resolve directory
         Path path = context.getBasedir();
@@ -66,6 +66,7 @@ public final class Signing extends AbstractModelObject<Signing> implements Domai
     private Boolean artifacts;
     private Boolean files;
     private Boolean checksums;
+    private Integer parallelism;
 
     private final org.jreleaser.model.api.signing.Signing immutable = new org.jreleaser.model.api.signing.Signing() {
         @Override
@@ -108,6 +109,11 @@ public final class Signing extends AbstractModelObject<Signing> implements Domai
             return Signing.this.isChecksums();
         }
 
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
         @Override
         public Command getCommand() {
             return command.asImmutable();
@@ -150,6 +156,7 @@ public final class Signing extends AbstractModelObject<Signing> implements Domai
         this.artifacts = merge(this.artifacts, source.artifacts);
         this.files = merge(this.files, source.files);
         this.checksums = merge(this.checksums, source.checksums);
+        this.parallelism = merge(this.parallelism, source.parallelism);
         setCommand(source.command);
         setCosign(source.cosign);
     }
@@ -299,6 +306,14 @@ public final class Signing extends AbstractModelObject<Signing> implements Domai
         this.checksums = checksums;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public Command getCommand() {
         return command;
     }
@@ -327,6 +342,7 @@ public final class Signing extends AbstractModelObject<Signing> implements Domai
         props.put("artifacts", isArtifacts());
         props.put("files", isFiles());
         props.put("checksums", isChecksums());
+        props.put("parallelism", parallelism);
         props.put("passphrase", isNotBlank(passphrase) ? HIDE : UNSET);
 
         if (mode == org.jreleaser.model.Signing.Mode.COMMAND) {
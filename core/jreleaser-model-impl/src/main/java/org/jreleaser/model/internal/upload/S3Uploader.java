@@ -49,6 +49,8 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
     private String accessKeyId;
     private String secretKey;
     private String sessionToken;
+    private Integer partSize;
+    private Integer partConcurrency;
 
     private final org.jreleaser.model.api.upload.S3Uploader immutable = new org.jreleaser.model.api.upload.S3Uploader() {
         @Override
@@ -96,6 +98,16 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
             return unmodifiableMap(headers);
         }
 
+        @Override
+        public Integer getPartSize() {
+            return partSize;
+        }
+
+        @Override
+        public Integer getPartConcurrency() {
+            return partConcurrency;
+        }
+
         @Override
         public String getType() {
             return type;
@@ -187,6 +199,8 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
         this.accessKeyId = merge(this.accessKeyId, source.accessKeyId);
         this.secretKey = merge(this.secretKey, source.secretKey);
         this.sessionToken = merge(this.sessionToken, source.sessionToken);
+        this.partSize = merge(this.partSize, source.partSize);
+        this.partConcurrency = merge(this.partConcurrency, source.partConcurrency);
         setHeaders(merge(this.headers, source.headers));
     }
 
@@ -289,6 +303,22 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
         this.headers.putAll(headers);
     }
 
+    public Integer getPartSize() {
+        return partSize;
+    }
+
+    public void setPartSize(Integer partSize) {
+        this.partSize = partSize;
+    }
+
+    public Integer getPartConcurrency() {
+        return partConcurrency;
+    }
+
+    public void setPartConcurrency(Integer partConcurrency) {
+        this.partConcurrency = partConcurrency;
+    }
+
     @Override
     protected void asMap(boolean full, Map<String, Object> props) {
         props.put("region", getResolvedRegion());
@@ -300,6 +330,8 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
         props.put("downloadUrl", getResolvedDownloadUrl());
         props.put("endpoint", getResolvedEndpoint());
         props.put("headers", headers);
+        props.put("partSize", partSize);
+        props.put("partConcurrency", partConcurrency);
     }
 
 
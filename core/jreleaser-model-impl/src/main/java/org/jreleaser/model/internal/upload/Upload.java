@@ -61,6 +61,8 @@ public final class Upload extends AbstractModelObject<Upload> implements Domain,
     private Active active;
     @JsonIgnore
     private boolean enabled = true;
+    private Integer parallelism;
+    private Integer connections;
 
     private final org.jreleaser.model.api.upload.Upload immutable = new org.jreleaser.model.api.upload.Upload() {
         private Map<String, ? extends org.jreleaser.model.api.upload.ArtifactoryUploader> artifactory;
@@ -162,6 +164,16 @@ public final class Upload extends AbstractModelObject<Upload> implements Domain,
             return Upload.this.isEnabled();
         }
 
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public Integer getConnections() {
+            return connections;
+        }
+
         @Override
         public Map<String, Object> asMap(boolean full) {
             return unmodifiableMap(Upload.this.asMap(full));
@@ -176,6 +188,8 @@ public final class Upload extends AbstractModelObject<Upload> implements Domain,
     public void merge(Upload source) {
         this.active = merge(this.active, source.active);
         this.enabled = merge(this.enabled, source.enabled);
+        this.parallelism = merge(this.parallelism, source.parallelism);
+        this.connections = merge(this.connections, source.connections);
         setArtifactory(mergeModel(this.artifactory, source.artifactory));
         setFtp(mergeModel(this.ftp, source.ftp));
         setGitea(mergeModel(this.gitea, source.gitea));
@@ -232,6 +246,22 @@ public final class Upload extends AbstractModelObject<Upload> implements Domain,
         return active != null;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public Integer getConnections() {
+        return connections;
+    }
+
+    public void setConnections(Integer connections) {
+        this.connections = connections;
+    }
+
     public Optional<? extends Uploader> getUploader(String type, String name) {
         switch (type) {
             case org.jreleaser.model.api.upload.ArtifactoryUploader.TYPE:
@@ -491,6 +521,8 @@ public final class Upload extends AbstractModelObject<Upload> implements Domain,
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", enabled);
         map.put("active", active);
+        map.put("parallelism", parallelism);
+        map.put("connections", connections);
 
         List<Map<String, Object>> artifactory = this.artifactory.values()
             .stream()
@@ -30,31 +30,32 @@ import org.jreleaser.model.internal.common.Glob;
 import org.jreleaser.model.internal.distributions.Distribution;
 import org.jreleaser.model.internal.files.Files;
 import org.jreleaser.model.internal.packagers.Packager;
+import org.jreleaser.model.internal.platform.Platform;
 import org.jreleaser.model.internal.release.BaseReleaser;
 import org.jreleaser.model.internal.upload.Upload;
 import org.jreleaser.model.internal.upload.Uploader;
+import org.jreleaser.util.FileTreeIndex;
 import org.jreleaser.util.FileType;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableMap;
 import static org.jreleaser.model.Constants.KEY_ARTIFACT_ARCH;
 import static org.jreleaser.model.Constants.KEY_ARTIFACT_FILE;
 import static org.jreleaser.model.Constants.KEY_ARTIFACT_FILE_EXTENSION;
@@ -74,9 +75,11 @@ import static org.jreleaser.model.Constants.KEY_DISTRIBUTION_ARTIFACT_PLATFORM;
 import static org.jreleaser.model.Constants.KEY_DISTRIBUTION_ARTIFACT_PLATFORM_REPLACED;
 import static org.jreleaser.model.Constants.KEY_PROJECT_EFFECTIVE_VERSION;
 import static org.jreleaser.model.Constants.KEY_PROJECT_VERSION;
+import static org.jreleaser.model.api.checksum.Checksum.INDIVIDUAL_CHECKSUM;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
 import static org.jreleaser.util.StringUtils.capitalize;
 import static org.jreleaser.util.StringUtils.getFilename;
+import static org.jreleaser.util.StringUtils.isTrue;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -144,83 +147,78 @@ public class Artifacts {
     public static Map<String, Object> resolvedArtifactProps(Artifact artifact, Map<String, Object> props) {
         props.putAll(artifact.getExtraProperties());
         props.putAll(artifact.getResolvedExtraProperties());
+        props.putAll(artifactFileProps(artifact, props));
+        return props;
+    }
 
-        String artifactFile = artifact.getEffectivePath().getFileName().toString();
-        String artifactFileName = getFilename(artifactFile, FileType.getSupportedExtensions());
-        props.put(KEY_ARTIFACT_FILE, artifactFile);
-        props.put(KEY_ARTIFACT_FILE_NAME, artifactFileName);
-
-        if (!artifactFile.equals(artifactFileName)) {
-            String artifactExtension = artifactFile.substring(artifactFileName.length());
-            String artifactFileFormat = artifactExtension.substring(1);
-            props.put(KEY_ARTIFACT_FILE_EXTENSION, artifactExtension);
-            props.put(KEY_ARTIFACT_FILE_FORMAT, artifactFileFormat);
-        }
+    public static Map<String, Object> resolvedArtifactProps(Artifact artifact, Distribution distribution, Map<String, Object> props) {
+        props.putAll(artifact.getExtraProperties());
+        props.putAll(artifact.getResolvedExtraProperties());
 
-        String artifactName = "";
-        String projectVersion = (String) props.get(KEY_PROJECT_EFFECTIVE_VERSION);
-        if (isNotBlank(projectVersion) && artifactFileName.contains(projectVersion)) {
-            artifactName = artifactFileName.substring(0, artifactFileName.indexOf(projectVersion));
-            if (artifactName.endsWith("-")) {
-                artifactName = artifactName.substring(0, artifactName.length() - 1);
-            }
-            props.put(KEY_ARTIFACT_VERSION, projectVersion);
-        }
-        projectVersion = (String) props.get(KEY_PROJECT_VERSION);
-        if (isBlank(artifactName) && isNotBlank(projectVersion) && artifactFileName.contains(projectVersion)) {
-            artifactName = artifactFileName.substring(0, artifactFileName.indexOf(projectVersion));
-            if (artifactName.endsWith("-")) {
-                artifactName = artifactName.substring(0, artifactName.length() - 1);
-            }
-            props.put(KEY_ARTIFACT_VERSION, projectVersion);
+        Map<String, Object> fileProps = artifactFileProps(artifact, props);
+        props.putAll(fileProps);
+        props.put(KEY_DISTRIBUTION_ARTIFACT_FILE, fileProps.get(KEY_ARTIFACT_FILE));
+        props.put(KEY_DISTRIBUTION_ARTIFACT_FILE_NAME, fileProps.get(KEY_ARTIFACT_FILE_NAME));
+        if (fileProps.containsKey(KEY_ARTIFACT_FILE_EXTENSION)) {
+            props.put(KEY_DISTRIBUTION_ARTIFACT_FILE_EXTENSION, fileProps.get(KEY_ARTIFACT_FILE_EXTENSION));
+            props.put(KEY_DISTRIBUTION_ARTIFACT_FILE_FORMAT, fileProps.get(KEY_ARTIFACT_FILE_FORMAT));
+            props.put(KEY_DISTRIBUTION_ARTIFACT_ARCHIVE_FORMAT, fileProps.get(KEY_ARTIFACT_FILE_FORMAT));
         }
-        props.put(KEY_ARTIFACT_NAME, artifactName);
 
         String platform = artifact.getPlatform();
-        if (isNotBlank(platform)) {
-            props.put("platform", platform);
-            props.put(KEY_ARTIFACT_PLATFORM, platform);
-            if (platform.contains("-")) {
-                String[] parts = platform.split("-");
-                props.put(KEY_ARTIFACT_OS, parts[0]);
-                props.put(KEY_ARTIFACT_ARCH, parts[1]);
-            }
-        }
+        String platformReplaced = platformReplaced(artifact, distribution.getPlatform());
+        if (isNotBlank(platformReplaced)) props.put(KEY_ARTIFACT_PLATFORM_REPLACED, platformReplaced);
+        if (isNotBlank(platform)) props.put(KEY_DISTRIBUTION_ARTIFACT_PLATFORM, platform);
+        if (isNotBlank(platformReplaced)) props.put(KEY_DISTRIBUTION_ARTIFACT_PLATFORM_REPLACED, platformReplaced);
 
         return props;
     }
 
-    public static Map<String, Object> resolvedArtifactProps(Artifact artifact, Distribution distribution, Map<String, Object> props) {
-        props.putAll(artifact.getExtraProperties());
-        props.putAll(artifact.getResolvedExtraProperties());
+    /**
+     * Returns the platform of the artifact after applying the given replacements.
+     * The result is memoized on the artifact.
+     */
+    public static String platformReplaced(Artifact artifact, Platform platform) {
+        String artifactPlatform = artifact.getPlatform();
+        // Platform is mutable and compares by identity, key on a snapshot of its replacements
+        Map<String, String> replacements = new LinkedHashMap<>(platform.getReplacements());
+        return artifact.memoize("platformReplaced", asList(artifactPlatform, replacements),
+            () -> platform.applyReplacements(artifactPlatform));
+    }
+
+    private static Map<String, Object> artifactFileProps(Artifact artifact, Map<String, Object> props) {
+        Path effectivePath = artifact.getEffectivePath();
+        String platform = artifact.getPlatform();
+        String projectEffectiveVersion = (String) props.get(KEY_PROJECT_EFFECTIVE_VERSION);
+        String projectVersion = (String) props.get(KEY_PROJECT_VERSION);
+
+        // these only depend on the file name, the platform and the project version
+        return artifact.memoize("fileProps", asList(effectivePath, platform, projectEffectiveVersion, projectVersion),
+            () -> artifactFileProps(effectivePath.getFileName().toString(), platform, projectEffectiveVersion, projectVersion));
+    }
+
+    private static Map<String, Object> artifactFileProps(String artifactFile, String platform, String projectEffectiveVersion, String projectVersion) {
+        Map<String, Object> props = new LinkedHashMap<>();
 
-        String artifactFile = artifact.getEffectivePath().getFileName().toString();
         String artifactFileName = getFilename(artifactFile, FileType.getSupportedExtensions());
         props.put(KEY_ARTIFACT_FILE, artifactFile);
         props.put(KEY_ARTIFACT_FILE_NAME, artifactFileName);
-        props.put(KEY_DISTRIBUTION_ARTIFACT_FILE, artifactFile);
-        props.put(KEY_DISTRIBUTION_ARTIFACT_FILE_NAME, artifactFileName);
 
         if (!artifactFile.equals(artifactFileName)) {
             String artifactExtension = artifactFile.substring(artifactFileName.length());
             String artifactFileFormat = artifactExtension.substring(1);
             props.put(KEY_ARTIFACT_FILE_EXTENSION, artifactExtension);
             props.put(KEY_ARTIFACT_FILE_FORMAT, artifactFileFormat);
-            props.put(KEY_DISTRIBUTION_ARTIFACT_FILE_EXTENSION, artifactExtension);
-            props.put(KEY_DISTRIBUTION_ARTIFACT_FILE_FORMAT, artifactFileFormat);
-            props.put(KEY_DISTRIBUTION_ARTIFACT_ARCHIVE_FORMAT, artifactFileFormat);
         }
 
         String artifactName = "";
-        String projectVersion = (String) props.get(KEY_PROJECT_EFFECTIVE_VERSION);
-        if (isNotBlank(projectVersion) && artifactFileName.contains(projectVersion)) {
-            artifactName = artifactFileName.substring(0, artifactFileName.indexOf(projectVersion));
+        if (isNotBlank(projectEffectiveVersion) && artifactFileName.contains(projectEffectiveVersion)) {
+            artifactName = artifactFileName.substring(0, artifactFileName.indexOf(projectEffectiveVersion));
             if (artifactName.endsWith("-")) {
                 artifactName = artifactName.substring(0, artifactName.length() - 1);
             }
-            props.put(KEY_ARTIFACT_VERSION, projectVersion);
+            props.put(KEY_ARTIFACT_VERSION, projectEffectiveVersion);
         }
-        projectVersion = (String) props.get(KEY_PROJECT_VERSION);
         if (isBlank(artifactName) && isNotBlank(projectVersion) && artifactFileName.contains(projectVersion)) {
             artifactName = artifactFileName.substring(0, artifactFileName.indexOf(projectVersion));
             if (artifactName.endsWith("-")) {
@@ -230,7 +228,6 @@ public class Artifacts {
         }
         props.put(KEY_ARTIFACT_NAME, artifactName);
 
-        String platform = artifact.getPlatform();
         if (isNotBlank(platform)) {
             props.put("platform", platform);
             props.put(KEY_ARTIFACT_PLATFORM, platform);
@@ -241,12 +238,7 @@ public class Artifacts {
             }
         }
 
-        String platformReplaced = distribution.getPlatform().applyReplacements(platform);
-        if (isNotBlank(platformReplaced)) props.put(KEY_ARTIFACT_PLATFORM_REPLACED, platformReplaced);
-        if (isNotBlank(platform)) props.put(KEY_DISTRIBUTION_ARTIFACT_PLATFORM, platform);
-        if (isNotBlank(platformReplaced)) props.put(KEY_DISTRIBUTION_ARTIFACT_PLATFORM_REPLACED, platformReplaced);
-
-        return props;
+        return unmodifiableMap(props);
     }
 
     public static Map<String, Object> globProps(Glob glob, Map<String, Object> props) {
@@ -418,6 +410,23 @@ public class Artifacts {
         return false;
     }
 
+    public static boolean isIndividual(JReleaserContext context, Artifact artifact) {
+        if (artifact.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
+            return isTrue(artifact.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
+        }
+        return context.getModel().getChecksum().isIndividual();
+    }
+
+    public static boolean isIndividual(JReleaserContext context, Distribution distribution, Artifact artifact) {
+        if (artifact.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
+            return isTrue(artifact.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
+        }
+        if (distribution.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
+            return isTrue(distribution.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
+        }
+        return context.getModel().getChecksum().isIndividual();
+    }
+
     public static Path checkAndCopyFile(JReleaserContext context, Path src, Path dest) throws JReleaserException {
         if (null == dest) return src;
 
@@ -464,7 +473,13 @@ public class Artifacts {
             paths.add(artifact);
         }
 
-        // resolve globs
+        // resolve globs, walking each directory tree once
+        List<Path> directories = new ArrayList<>();
+        for (Glob glob : files.getGlobs()) {
+            directories.add(glob.getResolvedDirectory(context));
+        }
+        context.getFileTreeIndex().prepare(directories);
+
         for (Glob glob : files.getGlobs()) {
             for (Artifact artifact : glob.getResolvedArtifacts(context)) {
                 if (!artifact.isActive()) continue;
@@ -488,17 +503,7 @@ public class Artifacts {
             matchers.add(fileSystem.getPathMatcher(glob));
         }
 
-        GlobResolver resolver = new GlobResolver(logger, basedir, matchers);
-        try {
-            java.nio.file.Files.walkFileTree(basedir, resolver);
-            if (resolver.failed) {
-                throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
-            }
-
-            return Artifact.sortArtifacts(resolver.artifacts);
-        } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_globs"), e);
-        }
+        return resolveFiles(logger, basedir, FileTreeIndex.walk(basedir, true), matchers);
     }
 
     public static Set<Artifact> resolveFiles(JReleaserLogger logger,
@@ -509,23 +514,7 @@ public class Artifacts {
             return Collections.emptySet();
         }
 
-        FileSystem fileSystem = FileSystems.getDefault();
-        List<PathMatcher> matchers = new ArrayList<>();
-        for (String glob : globs) {
-            matchers.add(fileSystem.getPathMatcher(resolveTemplate(glob, props)));
-        }
-
-        GlobResolver resolver = new GlobResolver(logger, basedir, matchers);
-        try {
-            java.nio.file.Files.walkFileTree(basedir, resolver);
-            if (resolver.failed) {
-                throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
-            }
-
-            return Artifact.sortArtifacts(resolver.artifacts);
-        } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_globs"), e);
-        }
+        return resolveFiles(logger, basedir, FileTreeIndex.walk(basedir, true), matchers(props, globs));
     }
 
     public static Set<Artifact> resolveFiles(JReleaserContext context, Collection<String> globs) throws JReleaserException {
@@ -533,41 +522,40 @@ public class Artifacts {
     }
 
     public static Set<Artifact> resolveFiles(JReleaserContext context, Path directory, Collection<String> globs) throws JReleaserException {
-        return resolveFiles(context.getLogger(), context.fullProps(), directory, globs);
-    }
+        if (null == globs || globs.isEmpty()) {
+            return Collections.emptySet();
+        }
 
-    private static class GlobResolver extends SimpleFileVisitor<Path> {
-        private final JReleaserLogger logger;
-        private final List<PathMatcher> matchers;
-        private final Path basedir;
-        private final Set<Artifact> artifacts = new LinkedHashSet<>();
-        private boolean failed;
+        List<PathMatcher> matchers = matchers(context.fullProps(), globs);
+        return resolveFiles(context.getLogger(), directory, context.getFileTreeIndex().list(directory), matchers);
+    }
 
-        private GlobResolver(JReleaserLogger logger, Path basedir, List<PathMatcher> matchers) {
-            this.logger = logger;
-            this.matchers = matchers;
-            this.basedir = basedir;
+    private static List<PathMatcher> matchers(Map<String, Object> props, Collection<String> globs) {
+        FileSystem fileSystem = FileSystems.getDefault();
+        List<PathMatcher> matchers = new ArrayList<>();
+        for (String glob : globs) {
+            matchers.add(fileSystem.getPathMatcher(resolveTemplate(glob, props)));
         }
+        return matchers;
+    }
 
-        private void match(Path path) {
-            if (matchers.stream()
-                .anyMatch(matcher -> matcher.matches(path))) {
-                artifacts.add(Artifact.of(path));
+    private static Set<Artifact> resolveFiles(JReleaserLogger logger, Path basedir, FileTreeIndex.Listing listing, List<PathMatcher> matchers) {
+        Set<Artifact> artifacts = new LinkedHashSet<>();
+        for (Path path : listing.getPaths()) {
+            for (PathMatcher matcher : matchers) {
+                if (matcher.matches(path)) {
+                    artifacts.add(Artifact.of(path));
+                    break;
+                }
             }
         }
 
-        @Override
-        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            match(file);
-            return CONTINUE;
+        if (listing.isFailed()) {
+            listing.getFailures().forEach((file, e) -> logger.error(RB.$("ERROR_artifacts_unexpected_error_path"),
+                basedir.toAbsolutePath().relativize(file.toAbsolutePath()), e));
+            throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
         }
 
-        @Override
-        public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException {
-            failed = true;
-            logger.error(RB.$("ERROR_artifacts_unexpected_error_path"),
-                basedir.toAbsolutePath().relativize(file.toAbsolutePath()), e);
-            return CONTINUE;
-        }
+        return Artifact.sortArtifacts(artifacts);
     }
 }
@@ -43,6 +43,10 @@ public abstract class ChecksumValidator extends Validator {
             checksum.setName("checksums.txt");
         }
 
+        if (null == checksum.getParallelism() || checksum.getParallelism() <= 0) {
+            checksum.setParallelism(1);
+        }
+
         checksum.getAlgorithms().add(Algorithm.SHA_256);
     }
 }
@@ -59,6 +59,10 @@ public abstract class SigningValidator extends Validator {
             signing.setArmored(true);
         }
 
+        if (null == signing.getParallelism() || signing.getParallelism() <= 0) {
+            signing.setParallelism(1);
+        }
+
         boolean cosign = signing.resolveMode() == org.jreleaser.model.Signing.Mode.COSIGN;
 
         signing.setPassphrase(
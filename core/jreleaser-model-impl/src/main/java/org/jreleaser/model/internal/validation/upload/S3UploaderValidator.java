@@ -125,6 +125,16 @@ public abstract class S3UploaderValidator extends Validator {
             errors.configuration(RB.$("validation_s3_missing_download_url", "s3." + s3.getName()));
         }
 
+        if (null == s3.getPartSize() || s3.getPartSize() <= 0) {
+            s3.setPartSize(8);
+        } else if (s3.getPartSize() < 5) {
+            // S3 rejects parts smaller than 5 MiB, except for the last one
+            s3.setPartSize(5);
+        }
+        if (null == s3.getPartConcurrency() || s3.getPartConcurrency() <= 0) {
+            s3.setPartConcurrency(4);
+        }
+
         validateTimeout(s3);
     }
 }
@@ -42,6 +42,13 @@ public abstract class UploadersValidator extends Validator {
         Upload upload = context.getModel().getUpload();
         context.getLogger().debug("upload");
 
+        if (null == upload.getParallelism() || upload.getParallelism() <= 0) {
+            upload.setParallelism(1);
+        }
+        if (null == upload.getConnections() || upload.getConnections() <= 0) {
+            upload.setConnections(1);
+        }
+
         validateArtifactory(context, mode, errors);
         validateFtpUploader(context, mode, errors);
         validateGiteaUploader(context, mode, errors);
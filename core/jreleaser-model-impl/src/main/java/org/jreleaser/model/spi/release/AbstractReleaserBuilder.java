@@ -33,12 +33,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Objects.requireNonNull;
-import static org.jreleaser.model.api.checksum.Checksum.INDIVIDUAL_CHECKSUM;
 import static org.jreleaser.model.api.checksum.Checksum.KEY_SKIP_CHECKSUM;
 import static org.jreleaser.model.api.release.Releaser.KEY_SKIP_RELEASE;
 import static org.jreleaser.model.api.release.Releaser.KEY_SKIP_RELEASE_SIGNATURES;
 import static org.jreleaser.model.api.signing.Signing.KEY_SKIP_SIGNING;
-import static org.jreleaser.util.StringUtils.isTrue;
 
 /**
  * @author Andres Almiray
@@ -95,7 +93,7 @@ public abstract class AbstractReleaserBuilder<R extends Releaser> implements Rel
                 if (!artifact.isActive() || artifact.extraPropertyIsTrue(KEY_SKIP_RELEASE)) continue;
                 Path path = artifact.getEffectivePath(context);
                 assets.add(Asset.file(Artifact.of(path, artifact.getExtraProperties())));
-                if (service.isChecksums() && isIndividual(context, artifact) &&
+                if (service.isChecksums() && Artifacts.isIndividual(context, artifact) &&
                     !artifact.extraPropertyIsTrue(KEY_SKIP_CHECKSUM)) {
                     for (Algorithm algorithm : checksum.getAlgorithms()) {
                         assets.add(Asset.checksum(Artifact.of(context.getChecksumsDirectory()
@@ -114,7 +112,7 @@ public abstract class AbstractReleaserBuilder<R extends Releaser> implements Rel
                     if (!artifact.isActive() || artifact.extraPropertyIsTrue(KEY_SKIP_RELEASE)) continue;
                     Path path = artifact.getEffectivePath(context, distribution);
                     assets.add(Asset.file(Artifact.of(path, artifact.getExtraProperties()), distribution));
-                    if (service.isChecksums() && isIndividual(context, distribution, artifact)) {
+                    if (service.isChecksums() && Artifacts.isIndividual(context, distribution, artifact)) {
                         for (Algorithm algorithm : checksum.getAlgorithms()) {
                             assets.add(Asset.checksum(Artifact.of(context.getChecksumsDirectory()
                                 .resolve(distribution.getName())
@@ -159,21 +157,4 @@ public abstract class AbstractReleaserBuilder<R extends Releaser> implements Rel
 
         return this;
     }
-
-    private boolean isIndividual(JReleaserContext context, Artifact artifact) {
-        if (artifact.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
-            return isTrue(artifact.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
-        }
-        return context.getModel().getChecksum().isIndividual();
-    }
-
-    private boolean isIndividual(JReleaserContext context, Distribution distribution, Artifact artifact) {
-        if (artifact.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
-            return isTrue(artifact.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
-        }
-        if (distribution.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
-            return isTrue(distribution.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
-        }
-        return context.getModel().getChecksum().isIndividual();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model;
+
+import org.jreleaser.model.internal.common.Artifact;
+import org.jreleaser.model.internal.util.Artifacts;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.jreleaser.model.Constants.KEY_ARTIFACT_FILE_FORMAT;
+import static org.jreleaser.model.Constants.KEY_ARTIFACT_NAME;
+import static org.jreleaser.model.Constants.KEY_ARTIFACT_OS;
+import static org.jreleaser.model.Constants.KEY_ARTIFACT_VERSION;
+import static org.jreleaser.model.Constants.KEY_PROJECT_EFFECTIVE_VERSION;
+import static org.jreleaser.model.Constants.KEY_PROJECT_VERSION;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class ArtifactPropsTest {
+    @Test
+    public void resolvesArtifactProps() {
+        // given:
+        Artifact artifact = Artifact.of(Paths.get("build", "app-1.2.3-linux-x86_64.tar.gz"), "linux-x86_64", emptyMap());
+
+        // when:
+        Map<String, Object> props = Artifacts.resolvedArtifactProps(artifact, projectProps("1.2.3"));
+
+        // then:
+        assertThat(props.get(KEY_ARTIFACT_NAME), equalTo("app"));
+        assertThat(props.get(KEY_ARTIFACT_VERSION), equalTo("1.2.3"));
+        assertThat(props.get(KEY_ARTIFACT_FILE_FORMAT), equalTo("tar.gz"));
+        assertThat(props.get(KEY_ARTIFACT_OS), equalTo("linux"));
+    }
+
+    @Test
+    public void recomputesWhenInputsChange() {
+        // given:
+        Artifact artifact = Artifact.of(Paths.get("build", "app-1.2.3.zip"), emptyMap());
+        Artifacts.resolvedArtifactProps(artifact, projectProps("1.2.3"));
+
+        // when:
+        Map<String, Object> props = Artifacts.resolvedArtifactProps(artifact, projectProps("2.0.0"));
+
+        // then:
+        assertThat(props.get(KEY_ARTIFACT_NAME), equalTo(""));
+        assertThat(props.containsKey(KEY_ARTIFACT_VERSION), equalTo(false));
+    }
+
+    private static Map<String, Object> projectProps(String version) {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put(KEY_PROJECT_VERSION, version);
+        props.put(KEY_PROJECT_EFFECTIVE_VERSION, version);
+        return props;
+    }
+}
@@ -49,6 +49,8 @@ interface Signing extends Activatable {
 
     Property<Boolean> getChecksums()
 
+    Property<Integer> getParallelism()
+
     Command getCommand()
 
     Cosign getCosign()
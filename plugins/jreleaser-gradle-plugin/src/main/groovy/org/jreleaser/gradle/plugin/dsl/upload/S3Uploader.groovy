@@ -46,5 +46,9 @@ interface S3Uploader extends Uploader {
 
     MapProperty<String, String> getHeaders()
 
+    Property<Integer> getPartSize()
+
+    Property<Integer> getPartConcurrency()
+
     void setHeader(String key, String value)
 }
\ No newline at end of file
@@ -46,6 +46,8 @@ class S3UploaderImpl extends AbstractUploader implements S3Uploader {
     final Property<String> path
     final Property<String> downloadUrl
     final MapProperty<String, String> headers
+    final Property<Integer> partSize
+    final Property<Integer> partConcurrency
 
     @Inject
     S3UploaderImpl(ObjectFactory objects) {
@@ -59,6 +61,8 @@ class S3UploaderImpl extends AbstractUploader implements S3Uploader {
         path = objects.property(String).convention(Providers.<String> notDefined())
         downloadUrl = objects.property(String).convention(Providers.<String> notDefined())
         headers = objects.mapProperty(String, String).convention(Providers.notDefined())
+        partSize = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        partConcurrency = objects.property(Integer).convention(Providers.<Integer> notDefined())
     }
 
     @Override
@@ -73,7 +77,9 @@ class S3UploaderImpl extends AbstractUploader implements S3Uploader {
             endpoint.present ||
             path.present ||
             downloadUrl.present ||
-            headers.present
+            headers.present ||
+            partSize.present ||
+            partConcurrency.present
     }
 
     @Override
@@ -96,6 +102,8 @@ class S3UploaderImpl extends AbstractUploader implements S3Uploader {
         if (path.present) s3.path = path.get()
         if (downloadUrl.present) s3.downloadUrl = downloadUrl.get()
         if (headers.present) s3.headers.putAll(headers.get())
+        if (partSize.present) s3.partSize = partSize.get()
+        if (partConcurrency.present) s3.partConcurrency = partConcurrency.get()
         s3
     }
 }
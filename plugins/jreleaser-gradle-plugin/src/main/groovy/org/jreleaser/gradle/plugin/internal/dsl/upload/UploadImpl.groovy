@@ -50,6 +50,8 @@ import static org.jreleaser.util.StringUtils.isNotBlank
 @CompileStatic
 class UploadImpl implements Upload {
     final Property<Active> active
+    final Property<Integer> parallelism
+    final Property<Integer> connections
     final NamedDomainObjectContainer<ArtifactoryUploader> artifactory
     final NamedDomainObjectContainer<FtpUploader> ftp
     final NamedDomainObjectContainer<GiteaUploader> gitea
@@ -62,6 +64,8 @@ class UploadImpl implements Upload {
     @Inject
     UploadImpl(ObjectFactory objects) {
         active = objects.property(Active).convention(Providers.<Active> notDefined())
+        parallelism = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        connections = objects.property(Integer).convention(Providers.<Integer> notDefined())
 
         artifactory = objects.domainObjectContainer(ArtifactoryUploader, new NamedDomainObjectFactory<ArtifactoryUploader>() {
             @Override
@@ -227,6 +231,8 @@ class UploadImpl implements Upload {
     org.jreleaser.model.internal.upload.Upload toModel() {
         org.jreleaser.model.internal.upload.Upload upload = new org.jreleaser.model.internal.upload.Upload()
         if (active.present) upload.active = active.get()
+        if (parallelism.present) upload.parallelism = parallelism.get()
+        if (connections.present) upload.connections = connections.get()
 
         artifactory.each { upload.addArtifactory(((ArtifactoryUploaderImpl) it).toModel()) }
         ftp.each { upload.addFtp(((FtpUploaderImpl) it).toModel()) }
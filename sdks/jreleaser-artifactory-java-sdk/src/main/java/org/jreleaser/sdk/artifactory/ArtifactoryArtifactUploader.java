@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
@@ -25,11 +24,12 @@ import org.jreleaser.model.internal.upload.ArtifactoryUploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.UploadBody;
 import org.jreleaser.util.Algorithm;
-import org.jreleaser.util.ChecksumUtils;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -72,13 +72,13 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<org.jr
         String username = uploader.getResolvedUsername();
         String password = uploader.getResolvedPassword();
 
-        for (Artifact artifact : artifacts) {
+        uploadArtifacts(artifacts, artifact -> {
             Path path = artifact.getEffectivePath(context);
             context.getLogger().info(" - {}", path.getFileName());
 
             if (!context.isDryrun()) {
                 try {
-                    FormData data = ClientUtils.toFormData(path);
+                    UploadBody data = ClientUtils.toUploadBody(path);
 
                     Map<String, String> headers = new LinkedHashMap<>();
                     switch (uploader.resolveAuthorization()) {
@@ -96,9 +96,11 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<org.jr
                     }
 
                     headers.put("X-Checksum-Deploy", "false");
-                    headers.put("X-Checksum-Sha1", ChecksumUtils.checksum(Algorithm.SHA_1, data.getData()));
-                    headers.put("X-Checksum-Sha256", ChecksumUtils.checksum(Algorithm.SHA_256, data.getData()));
-                    headers.put("X-Checksum", ChecksumUtils.checksum(Algorithm.MD5, data.getData()));
+                    Map<Algorithm, String> checksums = context.getChecksumIndex()
+                        .checksums(path, Arrays.asList(Algorithm.SHA_1, Algorithm.SHA_256, Algorithm.MD5));
+                    headers.put("X-Checksum-Sha1", checksums.get(Algorithm.SHA_1));
+                    headers.put("X-Checksum-Sha256", checksums.get(Algorithm.SHA_256));
+                    headers.put("X-Checksum", checksums.get(Algorithm.MD5));
 
                     ClientUtils.putFile(context.getLogger(),
                         uploader.getResolvedUploadUrl(context, artifact),
@@ -112,6 +114,6 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<org.jr
                         context.getBasedir().relativize(path)), e);
                 }
             }
-        }
+        });
     }
 }
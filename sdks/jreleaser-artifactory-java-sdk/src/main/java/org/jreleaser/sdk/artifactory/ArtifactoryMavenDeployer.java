@@ -17,19 +17,19 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.deploy.DeployException;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractMavenDeployer;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.UploadBody;
 import org.jreleaser.util.Algorithm;
-import org.jreleaser.util.ChecksumUtils;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -82,7 +82,7 @@ public class ArtifactoryMavenDeployer extends AbstractMavenDeployer<org.jrelease
 
             if (!context.isDryrun()) {
                 try {
-                    FormData data = ClientUtils.toFormData(localPath);
+                    UploadBody data = ClientUtils.toUploadBody(localPath);
 
                     Map<String, String> headers = new LinkedHashMap<>();
                     switch (deployer.resolveAuthorization()) {
@@ -100,9 +100,11 @@ public class ArtifactoryMavenDeployer extends AbstractMavenDeployer<org.jrelease
                     }
 
                     headers.put("X-Checksum-Deploy", "false");
-                    headers.put("X-Checksum-Sha1", ChecksumUtils.checksum(Algorithm.SHA_1, data.getData()));
-                    headers.put("X-Checksum-Sha256", ChecksumUtils.checksum(Algorithm.SHA_256, data.getData()));
-                    headers.put("X-Checksum", ChecksumUtils.checksum(Algorithm.MD5, data.getData()));
+                    Map<Algorithm, String> checksums = context.getChecksumIndex()
+                        .checksums(localPath, Arrays.asList(Algorithm.SHA_1, Algorithm.SHA_256, Algorithm.MD5));
+                    headers.put("X-Checksum-Sha1", checksums.get(Algorithm.SHA_1));
+                    headers.put("X-Checksum-Sha256", checksums.get(Algorithm.SHA_256));
+                    headers.put("X-Checksum", checksums.get(Algorithm.MD5));
 
                     String url = baseUrl + deployable.getPath() + "/" + deployable.getFilename();
                     ClientUtils.putFile(context.getLogger(),
@@ -29,6 +29,7 @@ import feign.jackson.JacksonEncoder;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.JReleaserVersion;
+import org.jreleaser.sdk.commons.ClientUtils;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.discourse.api.Category;
 import org.jreleaser.sdk.discourse.api.CategoryList;
@@ -72,6 +73,7 @@ public class DiscourseSdk {
          this.dryrun = dryrun;
 
          this.api = Feign.builder()
+                 .client(ClientUtils.client(logger))
                  .encoder(new JacksonEncoder(objectMapper))
                  .decoder(new JacksonDecoder(objectMapper))
                  .requestInterceptor(template -> {
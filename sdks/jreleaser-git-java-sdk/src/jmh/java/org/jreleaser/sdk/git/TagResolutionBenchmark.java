@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectIdRef;
+import org.eclipse.jgit.lib.Ref;
+import org.jreleaser.version.SemanticVersion;
+import org.jreleaser.version.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.jreleaser.sdk.git.GitSdk.extractTagName;
+
+/**
+ * Compares sorting and scanning tags on every lookup with a tag index built once.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TagResolutionBenchmark {
+    private static final Pattern VERSION_PATTERN = Pattern.compile("v?(.*)");
+    private static final String TAG_PATTERN = "v.*";
+
+    @Param({"100", "1000", "10000"})
+    private int tags;
+
+    private List<Ref> refs;
+    private Version currentVersion;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        refs = new ArrayList<>(tags);
+        for (int i = 0; i < tags; i++) {
+            String version = (i / 100) + "." + ((i / 10) % 10) + "." + (i % 10);
+            refs.add(new ObjectIdRef.PeeledNonTag(Ref.Storage.PACKED, "refs/tags/v" + version, ObjectId.zeroId()));
+            if (i % 7 == 0) {
+                refs.add(new ObjectIdRef.PeeledNonTag(Ref.Storage.PACKED, "refs/tags/v" + version + "-RC1", ObjectId.zeroId()));
+            }
+            if (i % 13 == 0) {
+                refs.add(new ObjectIdRef.PeeledNonTag(Ref.Storage.PACKED, "refs/tags/build-" + i, ObjectId.zeroId()));
+            }
+        }
+        Collections.shuffle(refs, new Random(42));
+        currentVersion = SemanticVersion.of((tags / 200) + ".5.5");
+    }
+
+    @Benchmark
+    public Optional<Ref> sortAndScan() {
+        List<Ref> list = new ArrayList<>(refs);
+        Version defaultVersion = SemanticVersion.defaultOf();
+        list.sort((tag1, tag2) -> version(tag2).compareTo(version(tag1)));
+
+        Optional<Ref> tag = list.stream()
+            .filter(ref -> extractTagName(ref).equals("v" + currentVersion))
+            .findFirst();
+        if (tag.isPresent()) return tag;
+
+        return list.stream()
+            .filter(ref -> extractTagName(ref).matches(TAG_PATTERN))
+            .filter(ref -> !defaultVersion.equals(version(ref)))
+            .filter(ref -> version(ref).compareTo(currentVersion) < 0)
+            .findFirst();
+    }
+
+    @Benchmark
+    public Optional<Ref> index() {
+        TagIndex index = TagIndex.of(refs, TagResolutionBenchmark::version,
+            SemanticVersion.defaultOf(), Pattern.compile(TAG_PATTERN));
+
+        Optional<Ref> tag = index.findByName("v" + currentVersion);
+        if (tag.isPresent()) return tag;
+
+        return index.findPrevious(currentVersion);
+    }
+
+    private static Version version(Ref ref) {
+        return version(extractTagName(ref));
+    }
+
+    private static Version version(String tagName) {
+        Matcher matcher = VERSION_PATTERN.matcher(tagName);
+        if (matcher.matches()) {
+            try {
+                return SemanticVersion.of(matcher.group(1));
+            } catch (IllegalArgumentException ignored) {
+                // fall through
+            }
+        }
+        return SemanticVersion.defaultOf();
+    }
+}
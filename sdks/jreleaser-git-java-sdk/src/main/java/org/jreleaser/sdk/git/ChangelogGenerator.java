@@ -17,6 +17,9 @@
  */
 package org.jreleaser.sdk.git;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.EmptyCommitException;
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -36,20 +39,25 @@ import org.jreleaser.util.StringUtils;
 import org.jreleaser.version.Version;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.StreamSupport;
 
 import static java.lang.System.lineSeparator;
 import static java.util.stream.Collectors.groupingBy;
@@ -60,14 +68,10 @@ import static org.jreleaser.model.Constants.KEY_CHANGELOG_CONTRIBUTORS;
 import static org.jreleaser.mustache.MustacheUtils.applyTemplate;
 import static org.jreleaser.mustache.MustacheUtils.passThrough;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
-import static org.jreleaser.sdk.git.ChangelogProvider.extractIssues;
 import static org.jreleaser.sdk.git.ChangelogProvider.storeIssues;
 import static org.jreleaser.sdk.git.GitSdk.extractTagName;
-import static org.jreleaser.util.ComparatorUtils.lessThan;
 import static org.jreleaser.util.StringUtils.isNotBlank;
-import static org.jreleaser.util.StringUtils.normalizeRegexPattern;
 import static org.jreleaser.util.StringUtils.stripMargin;
-import static org.jreleaser.util.StringUtils.toSafeRegexPattern;
 
 /**
  * @author Andres Almiray
@@ -75,7 +79,10 @@ import static org.jreleaser.util.StringUtils.toSafeRegexPattern;
  */
 public class ChangelogGenerator {
     private static final String UNCATEGORIZED = "<<UNCATEGORIZED>>";
-    private static final String REGEX_PREFIX = "regex:";
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    private ChangelogRules rules;
+    private CommitCache commitCache;
 
     public ChangelogGenerator() {
 
@@ -91,49 +98,108 @@ public class ChangelogGenerator {
         }
         String commitSeparator = separator;
 
-        try {
+        try (CommitCache cache = CommitCache.open(context)) {
+            commitCache = cache;
             Git git = GitSdk.of(context).open();
             context.getLogger().debug(RB.$("changelog.generator.resolve.commits"));
             Iterable<RevCommit> commits = resolveCommits(git, context);
 
-            Comparator<RevCommit> revCommitComparator = Comparator.comparing(RevCommit::getCommitTime).reversed();
+            Comparator<Integer> commitTimeComparator = Comparator.reverseOrder();
             if (changelog.getSort() == org.jreleaser.model.Changelog.Sort.ASC) {
-                revCommitComparator = Comparator.comparing(RevCommit::getCommitTime);
+                commitTimeComparator = Comparator.naturalOrder();
             }
             context.getLogger().debug(RB.$("changelog.generator.sort.commits"), changelog.getSort());
 
-            // collect
-            List<RevCommit> commitList = StreamSupport.stream(commits.spliterator(), false)
-                .filter(c -> !changelog.isSkipMergeCommits() || c.getParentCount() <= 1)
-                .collect(toList());
-
-            if (context.getModel().getRelease().getReleaser().getIssues().isEnabled()) {
-                // extract issues
-                String rawContent = commitList.stream()
-                    .map(RevCommit::getFullMessage)
-                    .collect(joining(lineSeparator()));
-                Set<Integer> issues = extractIssues(context, rawContent);
-                storeIssues(context, issues);
-            }
+            // a single pass over the commit range, bodies are released as soon as each commit is processed
+            boolean issuesEnabled = context.getModel().getRelease().getReleaser().getIssues().isEnabled();
+            Set<Integer> issues = new TreeSet<>();
+            Iterable<RevCommit> walk = walk(context, changelog, commits, issuesEnabled ? issues : null);
 
+            String result;
             if (changelog.resolveFormatted(context.getModel().getProject())) {
-                return formatChangelog(context, changelog, commitList, revCommitComparator, commitSeparator);
+                result = formatChangelog(context, changelog, walk, commitTimeComparator, commitSeparator);
+            } else {
+                String commitsUrl = releaser.getResolvedCommitUrl(context.getModel());
+
+                List<CommitEntry<String>> lines = new ArrayList<>();
+                for (RevCommit commit : walk) {
+                    lines.add(new CommitEntry<>(commit.getCommitTime(), formatCommit(commit, commitsUrl, changelog, commitSeparator)));
+                }
+
+                result = "## Changelog" +
+                    lineSeparator() +
+                    lineSeparator() +
+                    sort(lines, commitTimeComparator).stream()
+                        .map(CommitEntry::getValue)
+                        .collect(joining(commitSeparator));
             }
 
-            String commitsUrl = releaser.getResolvedCommitUrl(context.getModel());
+            if (issuesEnabled) {
+                storeIssues(context, issues);
+            }
 
-            return "## Changelog" +
-                lineSeparator() +
-                lineSeparator() +
-                commitList.stream()
-                    .sorted(revCommitComparator)
-                    .map(commit -> formatCommit(commit, commitsUrl, changelog, commitSeparator))
-                    .collect(joining(commitSeparator));
+            return result;
         } catch (GitAPIException e) {
             throw new IOException(e);
+        } finally {
+            commitCache = null;
         }
     }
 
+    /**
+     * Filters merge commits if needed and feeds issue extraction while the commit range is walked.
+     * The body of each commit is disposed once the consumer moves on to the next one.
+     */
+    private Iterable<RevCommit> walk(JReleaserContext context, Changelog changelog, Iterable<RevCommit> commits, Set<Integer> issues) {
+        CommitCache cache = commitCache;
+        Pattern issuePattern = null;
+        if (null != issues) {
+            context.getLogger().info(RB.$("issues.generator.extract"));
+            issuePattern = ChangelogProvider.issuePattern(context);
+        }
+        Pattern pattern = issuePattern;
+
+        return () -> new Iterator<RevCommit>() {
+            private final Iterator<RevCommit> delegate = commits.iterator();
+            private RevCommit next;
+            private RevCommit previous;
+
+            @Override
+            public boolean hasNext() {
+                if (null != previous) {
+                    previous.disposeBody();
+                    previous = null;
+                }
+
+                while (null == next && delegate.hasNext()) {
+                    RevCommit commit = delegate.next();
+                    if (changelog.isSkipMergeCommits() && commit.getParentCount() > 1) {
+                        commit.disposeBody();
+                        continue;
+                    }
+                    if (null != pattern) {
+                        issues.addAll(cache.issues(commit, pattern));
+                    }
+                    next = commit;
+                }
+                return null != next;
+            }
+
+            @Override
+            public RevCommit next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                previous = next;
+                next = null;
+                return previous;
+            }
+        };
+    }
+
+    private static <T> List<CommitEntry<T>> sort(List<CommitEntry<T>> entries, Comparator<Integer> comparator) {
+        entries.sort((e1, e2) -> comparator.compare(e1.commitTime, e2.commitTime));
+        return entries;
+    }
+
     protected String formatCommit(RevCommit commit, String commitsUrl, Changelog changelog, String commitSeparator) {
         String commitHash = commit.getId().name();
         String abbreviation = commit.getId().abbreviate(7).name();
@@ -150,14 +216,6 @@ public class ChangelogGenerator {
         return String.join(commitSeparator, lines);
     }
 
-    private Version version(JReleaserContext context, Ref tag, Pattern versionPattern) {
-        return version(context, tag, versionPattern, false);
-    }
-
-    private Version version(JReleaserContext context, Ref tag, Pattern versionPattern, boolean strict) {
-        return VersionUtils.version(context, extractTagName(tag), versionPattern, strict);
-    }
-
     private Version defaultVersion(JReleaserContext context) {
         return VersionUtils.defaultVersion(context);
     }
@@ -178,29 +236,25 @@ public class ChangelogGenerator {
         Pattern versionPattern = VersionUtils.resolveVersionPattern(context);
         VersionUtils.clearUnparseableTags();
 
-        tags.sort((tag1, tag2) -> {
-            Version v1 = version(context, tag1, versionPattern);
-            Version v2 = version(context, tag2, versionPattern);
-            return v2.compareTo(v1);
-        });
+        Version currentVersion = context.getModel().getProject().version();
+        Version defaultVersion = defaultVersion(context);
+
+        // every tag is parsed once, lookups below are served by the index
+        TagIndex index = TagIndex.of(tags,
+            name -> VersionUtils.version(context, name, versionPattern, true),
+            defaultVersion,
+            Pattern.compile(tagPattern));
 
         context.getLogger().debug(RB.$("changelog.generator.lookup.tag"), effectiveTagName);
-        Optional<Ref> tag = tags.stream()
-            .filter(ref -> extractTagName(ref).equals(effectiveTagName))
-            .findFirst();
+        Optional<Ref> tag = index.findByName(effectiveTagName);
 
         Optional<Ref> previousTag = Optional.empty();
         String previousTagName = releaser.getConfiguredPreviousTagName();
         if (isNotBlank(previousTagName)) {
             context.getLogger().debug(RB.$("changelog.generator.lookup.previous.tag"), previousTagName);
-            previousTag = tags.stream()
-                .filter(ref -> extractTagName(ref).equals(previousTagName))
-                .findFirst();
+            previousTag = index.findByName(previousTagName);
         }
 
-        Version currentVersion = context.getModel().getProject().version();
-        Version defaultVersion = defaultVersion(context);
-
         // tag: early-access
         if (context.getModel().getProject().isSnapshot()) {
             Project.Snapshot snapshot = context.getModel().getProject().getSnapshot();
@@ -218,20 +272,10 @@ public class ChangelogGenerator {
                     if (!tag.isPresent()) {
                         context.getLogger().debug(RB.$("changelog.generator.lookup.matching.tag"), tagPattern, effectiveTagName);
 
-                        tag = tags.stream()
-                            .filter(ref -> !extractTagName(ref).equals(effectiveTagName))
-                            .filter(ref -> versionPattern.matcher(extractTagName(ref)).matches())
-                            .filter(ref -> currentVersion.equalsSpec(version(context, ref, versionPattern, true)))
-                            .filter(ref -> !defaultVersion.equals(version(context, ref, versionPattern, true)))
-                            .findFirst();
+                        tag = index.findSameSpec(currentVersion, effectiveTagName);
                     }
                 } else {
-                    previousTag = tags.stream()
-                        .filter(ref -> extractTagName(ref).matches(tagPattern))
-                        .filter(ref -> !defaultVersion.equals(version(context, ref, versionPattern, true)))
-                        .filter(ref -> lessThan(version(context, ref, versionPattern, true), currentVersion))
-                        .findFirst();
-
+                    previousTag = index.findPrevious(currentVersion);
 
                     if (previousTag.isPresent()) {
                         RevCommit earlyAccessCommit = resolveSingleCommit(git, tag.get());
@@ -260,12 +304,7 @@ public class ChangelogGenerator {
 
             if (!tag.isPresent()) {
                 context.getLogger().debug(RB.$("changelog.generator.lookup.matching.tag"), tagPattern, effectiveTagName);
-                tag = tags.stream()
-                    .filter(ref -> !extractTagName(ref).equals(effectiveTagName))
-                    .filter(ref -> versionPattern.matcher(extractTagName(ref)).matches())
-                    .filter(ref -> currentVersion.equalsSpec(version(context, ref, versionPattern, true)))
-                    .filter(ref -> !defaultVersion.equals(version(context, ref, versionPattern, true)))
-                    .findFirst();
+                tag = index.findSameSpec(currentVersion, effectiveTagName);
             }
 
             if (tag.isPresent()) {
@@ -279,11 +318,7 @@ public class ChangelogGenerator {
         // tag: somewhere in the middle
         if (!previousTag.isPresent()) {
             context.getLogger().debug(RB.$("changelog.generator.lookup.before.tag"), effectiveTagName, tagPattern);
-            previousTag = tags.stream()
-                .filter(ref -> extractTagName(ref).matches(tagPattern))
-                .filter(ref -> !defaultVersion.equals(version(context, ref, versionPattern, true)))
-                .filter(ref -> lessThan(version(context, ref, versionPattern, true), currentVersion))
-                .findFirst();
+            previousTag = index.findPrevious(currentVersion);
         }
 
         if (previousTag.isPresent()) {
@@ -360,31 +395,36 @@ public class ChangelogGenerator {
 
     protected String formatChangelog(JReleaserContext context,
                                      Changelog changelog,
-                                     List<RevCommit> commits,
-                                     Comparator<RevCommit> revCommitComparator,
+                                     Iterable<RevCommit> commits,
+                                     Comparator<Integer> commitTimeComparator,
                                      String lineSeparator) {
         Set<Contributor> contributors = new TreeSet<>();
-        Map<String, List<Commit>> categories = new LinkedHashMap<>();
-
-        commits.stream()
-            .sorted(revCommitComparator)
-            .map(Commit::of)
-            .peek(c -> {
-                if (!changelog.getContributors().isEnabled()) return;
+        Map<String, List<Commit>> categories;
 
-                if (!changelog.getHide().containsContributor(c.author.name)) {
-                    contributors.add(new Contributor(c.author));
+        // formatChangelog may be invoked directly, outside of createChangelog
+        CommitCache cache = null != commitCache ? commitCache : CommitCache.open(context);
+        try {
+            categories = groupByCategory(changelog, commits, cache, commitTimeComparator, c -> {
+                if (changelog.getContributors().isEnabled()) {
+                    if (!changelog.getHide().containsContributor(c.author.name)) {
+                        contributors.add(new Contributor(c.author));
+                    }
+                    c.committers.stream()
+                        .filter(author -> !changelog.getHide().containsContributor(author.name))
+                        .forEach(author -> contributors.add(new Contributor(author)));
                 }
-                c.committers.stream()
-                    .filter(author -> !changelog.getHide().containsContributor(author.name))
-                    .forEach(author -> contributors.add(new Contributor(author)));
-            })
-            .peek(c -> applyLabels(c, changelog.getLabelers()))
-            .filter(c -> checkLabels(c, changelog))
-            .forEach(commit -> categories
-                .computeIfAbsent(categorize(commit, changelog), k -> new ArrayList<>())
-                .add(commit));
+            });
+        } finally {
+            if (cache != commitCache) {
+                try {
+                    cache.close();
+                } catch (IOException ignored) {
+                    // noop
+                }
+            }
+        }
 
+        // templates are rendered on this thread as mustache extensions are bound to it
         BaseReleaser releaser = context.getModel().getRelease().getReleaser();
         String commitsUrl = releaser.getResolvedCommitUrl(context.getModel());
 
@@ -436,6 +476,105 @@ public class ChangelogGenerator {
         return applyReplacers(context, changelog, stripMargin(applyTemplate(changelog.getResolvedContentTemplate(context), props)));
     }
 
+    /**
+     * Labels and categorizes a single commit. Returns {@code null} when the commit is filtered out by labels.
+     */
+    private String classify(Commit commit, Changelog changelog, boolean bodyRequired) {
+        applyLabels(commit, changelog);
+        if (!checkLabels(commit, changelog)) return null;
+        if (!bodyRequired) commit.releaseBody();
+        return categorize(commit, changelog);
+    }
+
+    /**
+     * Walks the given commits and groups those that pass label filters by category key, each group
+     * sorted by commit time. Commits are classified in batches on the common fork/join pool while
+     * walking, so that bodies not needed by templates are released before the whole range is loaded.
+     * Every walked commit is handed to the visitor on the calling thread, filtered or not.
+     */
+    Map<String, List<Commit>> groupByCategory(Changelog changelog,
+                                              Iterable<RevCommit> commits,
+                                              CommitCache cache,
+                                              Comparator<Integer> commitTimeComparator,
+                                              Consumer<Commit> visitor) {
+        boolean bodyRequired = isBodyRequired(changelog);
+        boolean parallel = ForkJoinPool.getCommonPoolParallelism() > 1;
+        int maxBatches = Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+
+        // compile rules before fanning out, classification only reads them
+        rules(changelog);
+
+        Map<String, List<CommitEntry<Commit>>> categories = new LinkedHashMap<>();
+        Deque<List<CommitEntry<Commit>>> batches = new ArrayDeque<>();
+        Deque<ForkJoinTask<List<String>>> tasks = new ArrayDeque<>();
+        List<CommitEntry<Commit>> batch = new ArrayList<>(PARALLEL_THRESHOLD);
+        for (RevCommit revCommit : commits) {
+            Commit commit = cache.commit(revCommit);
+            visitor.accept(commit);
+            batch.add(new CommitEntry<>(revCommit.getCommitTime(), commit));
+
+            if (batch.size() == PARALLEL_THRESHOLD) {
+                batches.add(batch);
+                tasks.add(classify(batch, changelog, bodyRequired, parallel));
+                batch = new ArrayList<>(PARALLEL_THRESHOLD);
+                // keep at most one batch per worker in flight
+                if (tasks.size() > maxBatches) {
+                    collect(batches.remove(), tasks.remove().join(), categories);
+                }
+            }
+        }
+
+        batches.add(batch);
+        tasks.add(classify(batch, changelog, bodyRequired, false));
+        while (!tasks.isEmpty()) {
+            collect(batches.remove(), tasks.remove().join(), categories);
+        }
+
+        Map<String, List<Commit>> sorted = new LinkedHashMap<>();
+        for (Map.Entry<String, List<CommitEntry<Commit>>> e : categories.entrySet()) {
+            sorted.put(e.getKey(), sort(e.getValue(), commitTimeComparator).stream()
+                .map(CommitEntry::getValue)
+                .collect(toList()));
+        }
+        return sorted;
+    }
+
+    private ForkJoinTask<List<String>> classify(List<CommitEntry<Commit>> batch, Changelog changelog, boolean bodyRequired, boolean fork) {
+        ForkJoinTask<List<String>> task = ForkJoinTask.adapt(() -> {
+            List<String> categoryKeys = new ArrayList<>(batch.size());
+            for (CommitEntry<Commit> entry : batch) {
+                categoryKeys.add(classify(entry.value, changelog, bodyRequired));
+            }
+            return categoryKeys;
+        });
+
+        if (fork) {
+            ForkJoinPool.commonPool().execute(task);
+        } else {
+            task.invoke();
+        }
+        return task;
+    }
+
+    private static void collect(List<CommitEntry<Commit>> batch, List<String> categoryKeys, Map<String, List<CommitEntry<Commit>>> categories) {
+        for (int i = 0; i < batch.size(); i++) {
+            String categoryKey = categoryKeys.get(i);
+            if (null == categoryKey) continue;
+
+            // entries keep walk order, sort() is stable so ties are rendered as before
+            categories.computeIfAbsent(categoryKey, k -> new ArrayList<>())
+                .add(batch.get(i));
+        }
+    }
+
+    private boolean isBodyRequired(Changelog changelog) {
+        if (isNotBlank(changelog.getFormat()) && changelog.getFormat().contains("commitBody")) return true;
+        for (Changelog.Category category : changelog.getCategories()) {
+            if (isNotBlank(category.getFormat()) && category.getFormat().contains("commitBody")) return true;
+        }
+        return false;
+    }
+
     private String resolveCommitFormat(Changelog changelog, Changelog.Category category) {
         if (StringUtils.isNotBlank(category.getFormat())) {
             return category.getFormat();
@@ -491,43 +630,23 @@ public class ChangelogGenerator {
 
     protected String categorize(Commit commit, Changelog changelog) {
         if (!commit.labels.isEmpty()) {
-            for (Changelog.Category category : changelog.getCategories()) {
-                if (CollectionUtils.intersects(category.getLabels(), commit.labels)) {
-                    return category.getKey();
-                }
-            }
+            String categoryKey = rules(changelog).categorize(commit.labels);
+            if (null != categoryKey) return categoryKey;
         }
 
         return UNCATEGORIZED;
     }
 
-    private void applyLabels(Commit commit, Set<Changelog.Labeler> labelers) {
-        for (Changelog.Labeler labeler : labelers) {
-            if (isNotBlank(labeler.getTitle())) {
-                if (labeler.getTitle().startsWith(REGEX_PREFIX)) {
-                    String regex = labeler.getTitle().substring(REGEX_PREFIX.length());
-                    if (commit.title.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                } else {
-                    if (commit.title.contains(labeler.getTitle()) || commit.title.matches(toSafeRegexPattern(labeler.getTitle()))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                }
-            }
-            if (isNotBlank(labeler.getBody())) {
-                if (labeler.getBody().startsWith(REGEX_PREFIX)) {
-                    String regex = labeler.getBody().substring(REGEX_PREFIX.length());
-                    if (commit.body.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                } else {
-                    if (commit.body.contains(labeler.getBody()) || commit.body.matches(toSafeRegexPattern(labeler.getBody()))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                }
-            }
+    private void applyLabels(Commit commit, Changelog changelog) {
+        rules(changelog).applyLabels(commit.title, commit.body, commit.labels);
+    }
+
+    private ChangelogRules rules(Changelog changelog) {
+        // labelers and categories are compiled once per changelog, not once per commit
+        if (null == rules || !rules.isFor(changelog)) {
+            rules = ChangelogRules.of(changelog);
         }
+        return rules;
     }
 
     protected boolean checkLabels(Commit commit, Changelog changelog) {
@@ -584,6 +703,20 @@ public class ChangelogGenerator {
         }
     }
 
+    private static final class CommitEntry<T> {
+        private final int commitTime;
+        private final T value;
+
+        private CommitEntry(int commitTime, T value) {
+            this.commitTime = commitTime;
+            this.value = value;
+        }
+
+        private T getValue() {
+            return value;
+        }
+    }
+
     protected static class Commit {
         private static final Pattern CO_AUTHORED_BY_PATTERN = Pattern.compile("^[Cc]o-authored-by:\\s+(.*)\\s+<(.*)>.*$");
         private final Set<String> labels = new LinkedHashSet<>();
@@ -610,6 +743,10 @@ public class ChangelogGenerator {
             return context;
         }
 
+        private void releaseBody() {
+            body = "";
+        }
+
         private void addContributor(String name, String email) {
             if (isNotBlank(name) && isNotBlank(email)) {
                 committers.add(new Author(name, email));
@@ -635,6 +772,37 @@ public class ChangelogGenerator {
             return c;
         }
 
+        void toJson(ObjectNode node) {
+            node.put("shortHash", shortHash);
+            node.put("title", title);
+            node.put("body", body);
+            node.put("time", time);
+            node.putObject("author")
+                .put("name", author.name)
+                .put("email", author.email);
+            ArrayNode array = node.putArray("committers");
+            for (Author committer : committers) {
+                array.addObject()
+                    .put("name", committer.name)
+                    .put("email", committer.email);
+            }
+        }
+
+        static Commit fromJson(JsonNode node) {
+            Commit c = new Commit();
+            c.fullHash = node.get("sha").asText();
+            c.shortHash = node.get("shortHash").asText();
+            c.title = node.get("title").asText();
+            c.body = node.get("body").asText();
+            c.time = node.get("time").asInt();
+            JsonNode author = node.get("author");
+            c.author = new Author(author.get("name").asText(), author.get("email").asText());
+            for (JsonNode committer : node.get("committers")) {
+                c.addContributor(committer.get("name").asText(), committer.get("email").asText());
+            }
+            return c;
+        }
+
         private static String[] split(String str) {
             // try Windows first
             String sep = "\r\n";
@@ -118,6 +118,15 @@ public class ChangelogProvider {
     public static Set<Integer> extractIssues(JReleaserContext context, String content) {
         context.getLogger().info(RB.$("issues.generator.extract"));
 
+        Set<Integer> issues = new TreeSet<>();
+        extractIssues(issuePattern(context), content, issues);
+        return issues;
+    }
+
+    /**
+     * @since 1.4.0
+     */
+    public static Pattern issuePattern(JReleaserContext context) {
         BaseReleaser releaser = context.getModel().getRelease().getReleaser();
         String issueTracker = releaser.getResolvedIssueTrackerUrl(context.getModel());
         if (!issueTracker.endsWith("/")) {
@@ -126,16 +135,22 @@ public class ChangelogProvider {
 
         String p1 = StringUtils.escapeRegexChars(issueTracker);
         String p2 = StringUtils.escapeRegexChars(releaser.getCanonicalRepoName());
-        Pattern pattern = Pattern.compile(".*" + p1 + "(\\d+)|.*" + p2 + "#(\\d+)|.*#(\\d+)" + ".*");
+        return Pattern.compile(".*" + p1 + "(\\d+)|.*" + p2 + "#(\\d+)|.*#(\\d+)" + ".*");
+    }
+
+    /**
+     * Adds issue numbers found in {@code content} to {@code issues}. Matching is line based,
+     * content may be fed one commit message at a time.
+     *
+     * @since 1.4.0
+     */
+    public static void extractIssues(Pattern pattern, String content, Set<Integer> issues) {
         Matcher matcher = pattern.matcher(content);
-        Set<Integer> issues = new TreeSet<>();
         while (matcher.find()) {
             if (isNotBlank(matcher.group(1))) issues.add(Integer.valueOf(matcher.group(1)));
             if (isNotBlank(matcher.group(2))) issues.add(Integer.valueOf(matcher.group(2)));
             if (isNotBlank(matcher.group(3))) issues.add(Integer.valueOf(matcher.group(3)));
         }
-
-        return issues;
     }
 
     public static void storeIssues(JReleaserContext context, Set<Integer> issues) throws IOException {
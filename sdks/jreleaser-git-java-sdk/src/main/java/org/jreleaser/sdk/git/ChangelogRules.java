@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.model.internal.release.Changelog;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.jreleaser.util.StringUtils.isNotBlank;
+import static org.jreleaser.util.StringUtils.normalizeRegexPattern;
+import static org.jreleaser.util.StringUtils.toSafeRegexPattern;
+
+/**
+ * Labelers and categories of a {@code Changelog} compiled once for matching many commits.
+ * <p>
+ * Literal labelers are merged into one {@link LiteralMatcher} per commit field so that all of
+ * them are checked in a single pass. Regex labelers, and literals anchored with {@code ^} or
+ * {@code $}, are precompiled. Unanchored literals need no pattern as {@code .*literal.*}
+ * cannot match unless the text contains the literal.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+final class ChangelogRules {
+    private static final String REGEX_PREFIX = "regex:";
+
+    private final Changelog changelog;
+    private final List<String> labels = new ArrayList<>();
+    private final LiteralMatcher titleLiterals = new LiteralMatcher();
+    private final LiteralMatcher bodyLiterals = new LiteralMatcher();
+    private final List<Rule> titleRules = new ArrayList<>();
+    private final List<Rule> bodyRules = new ArrayList<>();
+    private final List<String> categoryKeys = new ArrayList<>();
+    private final Map<String, Integer> categoryByLabel = new HashMap<>();
+
+    private ChangelogRules(Changelog changelog) {
+        this.changelog = changelog;
+
+        for (Changelog.Labeler labeler : changelog.getLabelers()) {
+            int index = labels.size();
+            labels.add(labeler.getLabel());
+            compile(labeler.getTitle(), index, titleLiterals, titleRules);
+            compile(labeler.getBody(), index, bodyLiterals, bodyRules);
+        }
+        titleLiterals.compile();
+        bodyLiterals.compile();
+
+        for (Changelog.Category category : changelog.getCategories()) {
+            int index = categoryKeys.size();
+            categoryKeys.add(category.getKey());
+            for (String label : category.getLabels()) {
+                categoryByLabel.putIfAbsent(label, index);
+            }
+        }
+    }
+
+    static ChangelogRules of(Changelog changelog) {
+        return new ChangelogRules(changelog);
+    }
+
+    boolean isFor(Changelog changelog) {
+        return this.changelog == changelog;
+    }
+
+    /**
+     * Adds the labels of all matching labelers, in labeler order.
+     */
+    void applyLabels(String title, String body, Set<String> target) {
+        BitSet matches = new BitSet(labels.size());
+        match(title, titleLiterals, titleRules, matches);
+        match(body, bodyLiterals, bodyRules, matches);
+
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            target.add(labels.get(i));
+        }
+    }
+
+    /**
+     * Returns the key of the first category that shares a label with the given ones,
+     * {@code null} if there is none.
+     */
+    String categorize(Set<String> commitLabels) {
+        int found = Integer.MAX_VALUE;
+        for (String label : commitLabels) {
+            Integer index = categoryByLabel.get(label);
+            if (null != index && index < found) found = index;
+        }
+
+        return found != Integer.MAX_VALUE ? categoryKeys.get(found) : null;
+    }
+
+    private static void match(String text, LiteralMatcher literals, List<Rule> rules, BitSet matches) {
+        if (!literals.isEmpty()) {
+            literals.match(text, matches::set);
+        }
+        for (Rule rule : rules) {
+            if (!matches.get(rule.index) && rule.pattern.matcher(text).matches()) {
+                matches.set(rule.index);
+            }
+        }
+    }
+
+    private static void compile(String criteria, int index, LiteralMatcher literals, List<Rule> rules) {
+        if (!isNotBlank(criteria)) return;
+
+        if (criteria.startsWith(REGEX_PREFIX)) {
+            String regex = criteria.substring(REGEX_PREFIX.length());
+            rules.add(new Rule(index, Pattern.compile(normalizeRegexPattern(regex))));
+        } else {
+            literals.add(criteria, index);
+            if (criteria.startsWith("^") || criteria.endsWith("$")) {
+                rules.add(new Rule(index, Pattern.compile(toSafeRegexPattern(criteria))));
+            }
+        }
+    }
+
+    private static final class Rule {
+        private final int index;
+        private final Pattern pattern;
+
+        private Rule(int index, Pattern pattern) {
+            this.index = index;
+            this.pattern = pattern;
+        }
+    }
+}
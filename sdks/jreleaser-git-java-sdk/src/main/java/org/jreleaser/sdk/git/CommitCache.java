@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.jreleaser.model.internal.JReleaserContext;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * On disk cache of parsed commit metadata keyed by commit id, shared by runs that use the same
+ * output directory.
+ * <p>
+ * Entries are appended as JSON lines, a later line for the same commit supersedes an earlier one.
+ * Only the offset of each entry is held in memory, entries are read back on demand. Lines are
+ * written with non ASCII characters escaped so that character and byte offsets coincide.
+ * <p>
+ * The first line identifies the format, files written with a different one are discarded. The
+ * file is rewritten with live entries only when closed if superseded lines outnumber them.
+ * Instances are not thread safe.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+final class CommitCache implements Closeable {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+        .enable(JsonWriteFeature.ESCAPE_NON_ASCII)
+        .build();
+    private static final String SHA_PREFIX = "{\"sha\":\"";
+    private static final int SHA_LENGTH = 40;
+    static final String HEADER = "# jreleaser commits v1";
+
+    private final Path cacheFile;
+    private final Map<String, long[]> offsets = new HashMap<>();
+    private RandomAccessFile file;
+    private Entry last;
+    private int lines;
+
+    private CommitCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    static CommitCache open(JReleaserContext context) {
+        Path cacheFile = context.getOutputDirectory().resolve("commits.idx");
+        try {
+            return open(cacheFile);
+        } catch (IOException e) {
+            // start from scratch, the cache is an optimization
+            context.getLogger().trace(e);
+            return new CommitCache(cacheFile);
+        }
+    }
+
+    static CommitCache open(Path cacheFile) throws IOException {
+        CommitCache cache = new CommitCache(cacheFile);
+        cache.load();
+        return cache;
+    }
+
+    /**
+     * Returns the parsed metadata of the given commit, parsing and caching it if needed.
+     */
+    ChangelogGenerator.Commit commit(RevCommit revCommit) {
+        return entry(revCommit, null).commit;
+    }
+
+    /**
+     * Returns the issues referenced by the given commit, resolved with the given pattern.
+     */
+    Set<Integer> issues(RevCommit revCommit, Pattern issuePattern) {
+        return entry(revCommit, issuePattern).issues;
+    }
+
+    @Override
+    public void close() throws IOException {
+        last = null;
+        try {
+            if (lines - offsets.size() > offsets.size()) compact();
+        } finally {
+            if (null != file) {
+                file.close();
+                file = null;
+            }
+            offsets.clear();
+            lines = 0;
+        }
+    }
+
+    private Entry entry(RevCommit revCommit, Pattern issuePattern) {
+        String sha = revCommit.getId().name();
+
+        Entry entry = null != last && last.sha.equals(sha) ? last : read(sha);
+        boolean dirty = false;
+        if (null == entry) {
+            entry = new Entry(sha, ChangelogGenerator.Commit.of(revCommit));
+            dirty = true;
+        }
+        if (null != issuePattern && !issuePattern.pattern().equals(entry.issuePattern)) {
+            entry.issuePattern = issuePattern.pattern();
+            entry.issues = new TreeSet<>();
+            ChangelogProvider.extractIssues(issuePattern, revCommit.getFullMessage(), entry.issues);
+            dirty = true;
+        }
+        if (dirty) write(entry);
+
+        last = entry;
+        return entry;
+    }
+
+    private void load() throws IOException {
+        if (!Files.exists(cacheFile)) return;
+
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile, US_ASCII)) {
+            String line = reader.readLine();
+            if (!HEADER.equals(line)) {
+                // unknown format, start from scratch
+                reader.close();
+                Files.delete(cacheFile);
+                return;
+            }
+
+            long offset = line.length() + 1;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(SHA_PREFIX) && line.length() > SHA_PREFIX.length() + SHA_LENGTH) {
+                    String sha = line.substring(SHA_PREFIX.length(), SHA_PREFIX.length() + SHA_LENGTH);
+                    offsets.put(sha, new long[]{offset, line.length()});
+                }
+                offset += line.length() + 1;
+                lines++;
+            }
+        }
+    }
+
+    private Entry read(String sha) {
+        long[] location = offsets.get(sha);
+        if (null == location) return null;
+
+        try {
+            RandomAccessFile f = file();
+            byte[] buffer = new byte[(int) location[1]];
+            f.seek(location[0]);
+            f.readFully(buffer);
+            return Entry.parse(MAPPER.readTree(new String(buffer, US_ASCII)));
+        } catch (IOException | RuntimeException e) {
+            offsets.remove(sha);
+            return null;
+        }
+    }
+
+    private void write(Entry entry) {
+        try {
+            byte[] line = MAPPER.writeValueAsString(entry.toJson()).getBytes(US_ASCII);
+            RandomAccessFile f = file();
+            long offset = f.length();
+            f.seek(offset);
+            f.write(line);
+            f.write('\n');
+            offsets.put(entry.sha, new long[]{offset, line.length});
+            lines++;
+        } catch (IOException ignored) {
+            // the entry will be parsed again next time
+        }
+    }
+
+    private RandomAccessFile file() throws IOException {
+        if (null == file) {
+            Files.createDirectories(cacheFile.getParent());
+            file = new RandomAccessFile(cacheFile.toFile(), "rw");
+            if (file.length() == 0) {
+                file.write(HEADER.getBytes(US_ASCII));
+                file.write('\n');
+            }
+        }
+        return file;
+    }
+
+    private void compact() {
+        Path tmp = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+        try {
+            List<long[]> locations = new ArrayList<>(offsets.values());
+            locations.sort(Comparator.comparingLong(location -> location[0]));
+
+            RandomAccessFile f = file();
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                out.write(HEADER.getBytes(US_ASCII));
+                out.write('\n');
+                for (long[] location : locations) {
+                    byte[] buffer = new byte[(int) location[1]];
+                    f.seek(location[0]);
+                    f.readFully(buffer);
+                    out.write(buffer);
+                    out.write('\n');
+                }
+            }
+
+            f.close();
+            file = null;
+            Files.move(tmp, cacheFile, REPLACE_EXISTING);
+        } catch (IOException e) {
+            // keep the current file, superseded lines are skipped when loading
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+                // noop
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String sha;
+        private final ChangelogGenerator.Commit commit;
+        private String issuePattern;
+        private Set<Integer> issues;
+
+        private Entry(String sha, ChangelogGenerator.Commit commit) {
+            this.sha = sha;
+            this.commit = commit;
+        }
+
+        private ObjectNode toJson() {
+            ObjectNode node = MAPPER.createObjectNode();
+            node.put("sha", sha);
+            commit.toJson(node);
+            if (null != issuePattern) {
+                node.put("issuePattern", issuePattern);
+                ArrayNode array = node.putArray("issues");
+                issues.forEach(array::add);
+            }
+            return node;
+        }
+
+        private static Entry parse(JsonNode node) {
+            Entry entry = new Entry(node.get("sha").asText(), ChangelogGenerator.Commit.fromJson(node));
+            if (node.hasNonNull("issuePattern")) {
+                entry.issuePattern = node.get("issuePattern").asText();
+                entry.issues = new TreeSet<>();
+                for (JsonNode issue : node.get("issues")) {
+                    entry.issues.add(issue.asInt());
+                }
+            }
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.IntConsumer;
+
+/**
+ * Aho-Corasick automaton that finds every literal contained in a text in a single pass.
+ * Each literal is registered with an id, ids of all matching literals are reported.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+final class LiteralMatcher {
+    private static final int[] NONE = new int[0];
+
+    private final Node root = new Node();
+    private boolean compiled;
+
+    boolean isEmpty() {
+        return root.next.isEmpty();
+    }
+
+    void add(String literal, int id) {
+        if (compiled) throw new IllegalStateException("Matcher has already been compiled");
+
+        Node node = root;
+        for (int i = 0; i < literal.length(); i++) {
+            node = node.next.computeIfAbsent(literal.charAt(i), c -> new Node());
+        }
+        node.outputs = append(node.outputs, id);
+    }
+
+    LiteralMatcher compile() {
+        Queue<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        for (Node child : root.next.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        // breadth first, so failure links always point to nodes that are complete
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (Map.Entry<Character, Node> e : node.next.entrySet()) {
+                Node child = e.getValue();
+                Node fail = node.fail;
+                while (fail != root && !fail.next.containsKey(e.getKey())) {
+                    fail = fail.fail;
+                }
+                Node target = fail.next.get(e.getKey());
+                child.fail = null != target && target != child ? target : root;
+                child.outputs = merge(child.outputs, child.fail.outputs);
+                queue.add(child);
+            }
+        }
+
+        compiled = true;
+        return this;
+    }
+
+    void match(String text, IntConsumer consumer) {
+        if (!compiled) throw new IllegalStateException("Matcher has not been compiled");
+
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Node next = node.next.get(c);
+            while (null == next && node != root) {
+                node = node.fail;
+                next = node.next.get(c);
+            }
+            node = null != next ? next : root;
+            for (int id : node.outputs) {
+                consumer.accept(id);
+            }
+        }
+    }
+
+    private static int[] append(int[] ids, int id) {
+        int[] result = Arrays.copyOf(ids, ids.length + 1);
+        result[ids.length] = id;
+        return result;
+    }
+
+    private static int[] merge(int[] a, int[] b) {
+        if (b.length == 0) return a;
+        if (a.length == 0) return b;
+        int[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> next = new HashMap<>();
+        private Node fail;
+        private int[] outputs = NONE;
+    }
+}
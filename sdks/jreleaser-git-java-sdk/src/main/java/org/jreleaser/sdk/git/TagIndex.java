@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.eclipse.jgit.lib.Ref;
+import org.jreleaser.version.Version;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.jreleaser.sdk.git.GitSdk.extractTagName;
+
+/**
+ * Tags of a repository parsed once and indexed by name and by version.
+ * <p>
+ * Only tags whose name yields a version other than the default one take part in version
+ * lookups. Tags that share a version keep the order in which they were listed.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class TagIndex {
+    private final Map<String, Ref> byName = new HashMap<>();
+    private final TreeMap<Version, List<Entry>> byVersion = new TreeMap<>();
+
+    private TagIndex() {
+    }
+
+    /**
+     * @param tags           the tags to index
+     * @param versionParser  strict parser of tag names, returns {@code defaultVersion} for names that do not parse
+     * @param defaultVersion the version that marks a tag as unparseable
+     * @param tagPattern     pattern that previous tags must match
+     */
+    static TagIndex of(List<Ref> tags, Function<String, Version> versionParser, Version defaultVersion, Pattern tagPattern) {
+        TagIndex index = new TagIndex();
+        for (Ref ref : tags) {
+            String name = extractTagName(ref);
+            index.byName.putIfAbsent(name, ref);
+
+            Version version = versionParser.apply(name);
+            if (defaultVersion.equals(version)) continue;
+
+            index.byVersion.computeIfAbsent(version, v -> new ArrayList<>())
+                .add(new Entry(ref, name, version, tagPattern.matcher(name).matches()));
+        }
+        return index;
+    }
+
+    Optional<Ref> findByName(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    /**
+     * Returns the greatest tag whose version shares the spec of the given version,
+     * skipping the tag with the given name.
+     */
+    Optional<Ref> findSameSpec(Version version, String excludedName) {
+        for (List<Entry> entries : byVersion.descendingMap().values()) {
+            for (Entry entry : entries) {
+                if (!entry.name.equals(excludedName) && version.equalsSpec(entry.version)) {
+                    return Optional.of(entry.ref);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the greatest tag matching the tag pattern whose version is lower than the given one.
+     */
+    Optional<Ref> findPrevious(Version version) {
+        NavigableMap<Version, List<Entry>> lower = byVersion.headMap(version, false).descendingMap();
+        for (List<Entry> entries : lower.values()) {
+            for (Entry entry : entries) {
+                if (entry.matchesTagPattern) {
+                    return Optional.of(entry.ref);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static final class Entry {
+        private final Ref ref;
+        private final String name;
+        private final Version version;
+        private final boolean matchesTagPattern;
+
+        private Entry(Ref ref, String name, Version version, boolean matchesTagPattern) {
+            this.ref = ref;
+            this.name = name;
+            this.version = version;
+            this.matchesTagPattern = matchesTagPattern;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.jreleaser.model.internal.release.Changelog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class ChangelogGeneratorTest {
+    private static final int COMMITS = 200;
+
+    @Test
+    public void groupsLargeRangesByCategoryInCommitTimeOrder(@TempDir Path tmp) throws Exception {
+        // given: more commits than fit in a single classification batch
+        List<RevCommit> revCommits = new ArrayList<>();
+        List<String> features = new ArrayList<>();
+        List<String> fixes = new ArrayList<>();
+        List<String> others = new ArrayList<>();
+        try (Git git = Git.init().setDirectory(tmp.resolve("repo").toFile()).call()) {
+            for (int i = 0; i < COMMITS; i++) {
+                PersonIdent ident = new PersonIdent("Duke", "duke@example.com",
+                    new Date(1_600_000_000_000L + i * 1000L), TimeZone.getTimeZone("UTC"));
+                String type = i % 3 == 0 ? "feat" : i % 3 == 1 ? "fix" : "chore";
+                RevCommit revCommit = git.commit()
+                    .setAllowEmpty(true)
+                    .setAuthor(ident)
+                    .setCommitter(ident)
+                    .setMessage(type + ": change " + i)
+                    .call();
+                revCommits.add(revCommit);
+                (i % 3 == 0 ? features : i % 3 == 1 ? fixes : others).add(revCommit.getId().name());
+            }
+        }
+        // walks yield the newest commit first
+        Collections.reverse(revCommits);
+        Changelog changelog = changelog();
+
+        // when:
+        Map<String, List<ChangelogGenerator.Commit>> ascending = groupByCategory(tmp, changelog, revCommits, Comparator.naturalOrder());
+        Map<String, List<ChangelogGenerator.Commit>> descending = groupByCategory(tmp, changelog, revCommits, Comparator.reverseOrder());
+
+        // then:
+        assertThat(ascending.keySet(), hasSize(3));
+        assertThat(hashes(ascending.get("features")), equalTo(features));
+        assertThat(hashes(ascending.get("fixes")), equalTo(fixes));
+        assertThat(hashes(ascending.get("<<UNCATEGORIZED>>")), equalTo(others));
+
+        Collections.reverse(features);
+        Collections.reverse(fixes);
+        assertThat(hashes(descending.get("features")), equalTo(features));
+        assertThat(hashes(descending.get("fixes")), equalTo(fixes));
+    }
+
+    @Test
+    public void visitsFilteredCommits(@TempDir Path tmp) throws Exception {
+        // given:
+        List<RevCommit> revCommits = new ArrayList<>();
+        try (Git git = Git.init().setDirectory(tmp.resolve("repo").toFile()).call()) {
+            for (int i = 0; i < COMMITS; i++) {
+                revCommits.add(git.commit()
+                    .setAllowEmpty(true)
+                    .setAuthor("Duke", "duke@example.com")
+                    .setCommitter("Duke", "duke@example.com")
+                    .setMessage((i % 2 == 0 ? "feat" : "chore") + ": change " + i)
+                    .call());
+            }
+        }
+        Changelog changelog = changelog();
+        changelog.setIncludeLabels(Collections.singleton("feature"));
+        List<String> visited = new ArrayList<>();
+
+        // when:
+        Map<String, List<ChangelogGenerator.Commit>> categories;
+        try (CommitCache cache = CommitCache.open(tmp.resolve("commits.idx"))) {
+            categories = new ChangelogGenerator().groupByCategory(changelog, revCommits, cache, Comparator.naturalOrder(),
+                c -> visited.add(String.valueOf(c.asContext(false, "").get("commitFullHash"))));
+        }
+
+        // then:
+        assertThat(visited, hasSize(COMMITS));
+        assertThat(categories.keySet(), contains("features"));
+        assertThat(categories.get("features"), hasSize(COMMITS / 2));
+    }
+
+    private static Map<String, List<ChangelogGenerator.Commit>> groupByCategory(Path tmp, Changelog changelog, List<RevCommit> revCommits,
+                                                                                Comparator<Integer> comparator) throws Exception {
+        try (CommitCache cache = CommitCache.open(tmp.resolve("commits.idx"))) {
+            return new ChangelogGenerator().groupByCategory(changelog, revCommits, cache, comparator, c -> {
+                // noop
+            });
+        }
+    }
+
+    private static List<String> hashes(List<ChangelogGenerator.Commit> commits) {
+        List<String> hashes = new ArrayList<>();
+        for (ChangelogGenerator.Commit commit : commits) {
+            hashes.add(String.valueOf(commit.asContext(false, "").get("commitFullHash")));
+        }
+        return hashes;
+    }
+
+    private static Changelog changelog() {
+        Changelog changelog = new Changelog();
+        changelog.setLabelers(new LinkedHashSet<>(asList(
+            labeler("feature", "feat:", 1),
+            labeler("fix", "fix:", 2))));
+        Changelog.Category features = Changelog.Category.of("features", "Features", null, "feature");
+        features.setOrder(1);
+        Changelog.Category fixes = Changelog.Category.of("fixes", "Fixes", null, "fix");
+        fixes.setOrder(2);
+        changelog.setCategories(new LinkedHashSet<>(asList(features, fixes)));
+        return changelog;
+    }
+
+    private static Changelog.Labeler labeler(String label, String title, int order) {
+        Changelog.Labeler labeler = new Changelog.Labeler();
+        labeler.setLabel(label);
+        labeler.setTitle(title);
+        labeler.setOrder(order);
+        return labeler;
+    }
+}
@@ -167,7 +167,7 @@ public class ChangelogGeneratorUnitTest {
         RevCommit mergeCommit = getMockRevCommit(true, true);
 
         // when:
-        changelogGenerator.formatChangelog(context, changelog, Collections.singletonList(mergeCommit), Comparator.comparing(RevCommit::getCommitTime), "");
+        changelogGenerator.formatChangelog(context, changelog, Collections.singletonList(mergeCommit), Comparator.naturalOrder(), "");
 
         // then:
         verify(changelogGenerator, times(0)).categorize(any(), any());
@@ -183,7 +183,7 @@ public class ChangelogGeneratorUnitTest {
         RevCommit mergeCommit = getMockRevCommit(false, true);
 
         // when:
-        changelogGenerator.formatChangelog(context, changelog, Collections.singletonList(mergeCommit), Comparator.comparing(RevCommit::getCommitTime), "");
+        changelogGenerator.formatChangelog(context, changelog, Collections.singletonList(mergeCommit), Comparator.naturalOrder(), "");
 
         // then:
         verify(changelogGenerator, times(1)).categorize(any(), any());
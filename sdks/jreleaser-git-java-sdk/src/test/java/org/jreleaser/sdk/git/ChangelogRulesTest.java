@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.model.internal.release.Changelog;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class ChangelogRulesTest {
+    @Test
+    public void matchesLiteralsAndRegexesInLabelerOrder() {
+        // given:
+        Changelog changelog = new Changelog();
+        changelog.setLabelers(new LinkedHashSet<>(asList(
+            labeler("feature", "regex:^feat(\\(.*\\))?:.*", null, 1),
+            labeler("fix", "fix:", null, 2),
+            labeler("docs", null, "docs", 3),
+            labeler("deps", "^chore(deps)", null, 4))));
+        ChangelogRules rules = ChangelogRules.of(changelog);
+        Set<String> labels = new LinkedHashSet<>();
+
+        // when:
+        rules.applyLabels("feat(core): fix: rewrite docs", "feat(core): fix: rewrite docs\n\nupdated docs", labels);
+
+        // then:
+        assertThat(labels, contains("feature", "fix", "docs"));
+    }
+
+    @Test
+    public void matchesOverlappingLiterals() {
+        // given:
+        LiteralMatcher matcher = new LiteralMatcher();
+        matcher.add("he", 0);
+        matcher.add("she", 1);
+        matcher.add("hers", 2);
+        matcher.add("his", 3);
+        matcher.compile();
+        Set<Integer> ids = new LinkedHashSet<>();
+
+        // when:
+        matcher.match("ushers", ids::add);
+
+        // then:
+        assertThat(ids, contains(1, 0, 2));
+    }
+
+    @Test
+    public void categorizesByFirstMatchingCategory() {
+        // given:
+        Changelog changelog = new Changelog();
+        Changelog.Category features = Changelog.Category.of("features", "Features", null, "feature");
+        features.setOrder(1);
+        Changelog.Category fixes = Changelog.Category.of("fixes", "Fixes", null, "fix", "feature");
+        fixes.setOrder(2);
+        changelog.setCategories(new LinkedHashSet<>(asList(fixes, features)));
+        ChangelogRules rules = ChangelogRules.of(changelog);
+        Set<String> labels = new LinkedHashSet<>();
+
+        // when:
+        rules.applyLabels("unrelated", "unrelated", labels);
+
+        // then:
+        assertThat(labels, empty());
+        assertThat(rules.categorize(new LinkedHashSet<>(asList("fix", "feature"))), equalTo("features"));
+        assertThat(rules.categorize(new LinkedHashSet<>(asList("docs"))), nullValue());
+    }
+
+    private static Changelog.Labeler labeler(String label, String title, String body, int order) {
+        Changelog.Labeler labeler = new Changelog.Labeler();
+        labeler.setLabel(label);
+        labeler.setTitle(title);
+        labeler.setBody(body);
+        labeler.setOrder(order);
+        return labeler;
+    }
+}
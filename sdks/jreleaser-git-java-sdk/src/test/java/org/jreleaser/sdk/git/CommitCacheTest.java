@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class CommitCacheTest {
+    @Test
+    public void reusesParsedCommitsAcrossInstances(@TempDir Path tmp) throws Exception {
+        // given:
+        RevCommit revCommit;
+        try (Git git = Git.init().setDirectory(tmp.resolve("repo").toFile()).call()) {
+            revCommit = git.commit()
+                .setAllowEmpty(true)
+                .setAuthor("Duke", "duke@example.com")
+                .setCommitter("Duke", "duke@example.com")
+                .setMessage("feat: caf\u00e9 support #42\n\nCo-authored-by: Jane <jane@example.com>")
+                .call();
+        }
+        Path cacheFile = tmp.resolve("out").resolve("commits.idx");
+        Pattern issuePattern = Pattern.compile(".*#(\\d+)|.*#(\\d+)|.*#(\\d+).*");
+
+        // when:
+        try (CommitCache cache = CommitCache.open(cacheFile)) {
+            cache.issues(revCommit, issuePattern);
+        }
+        ChangelogGenerator.Commit commit;
+        try (CommitCache cache = CommitCache.open(cacheFile)) {
+            commit = cache.commit(revCommit);
+            assertThat(cache.issues(revCommit, issuePattern), contains(42));
+        }
+
+        // then:
+        assertThat(Files.readAllLines(cacheFile), hasSize(2));
+        assertThat(Files.readAllLines(cacheFile).get(0), equalTo(CommitCache.HEADER));
+        assertThat(commit.asContext(false, "").get("commitShortHash"), equalTo(revCommit.getId().abbreviate(7).name()));
+        assertThat(commit.asContext(false, "").get("commitTitle"), equalTo("!!feat: caf\u00e9 support #42!!"));
+    }
+
+    @Test
+    public void compactsSupersededEntriesOnClose(@TempDir Path tmp) throws Exception {
+        // given:
+        RevCommit revCommit = commit(tmp.resolve("repo"), "fix: #1 and !2");
+        Path cacheFile = tmp.resolve("out").resolve("commits.idx");
+
+        // when:
+        try (CommitCache cache = CommitCache.open(cacheFile)) {
+            cache.issues(revCommit, Pattern.compile(".*#(\\d+).*"));
+            cache.issues(revCommit, Pattern.compile(".*!(\\d+).*"));
+            cache.issues(revCommit, Pattern.compile(".*%(\\d+).*"));
+        }
+
+        // then:
+        assertThat(Files.readAllLines(cacheFile), hasSize(2));
+        try (CommitCache cache = CommitCache.open(cacheFile)) {
+            assertThat(cache.issues(revCommit, Pattern.compile(".*%(\\d+).*")), empty());
+        }
+        assertThat(Files.readAllLines(cacheFile), hasSize(2));
+    }
+
+    @Test
+    public void discardsFilesWithAnotherFormat(@TempDir Path tmp) throws Exception {
+        // given:
+        RevCommit revCommit = commit(tmp.resolve("repo"), "fix: #1");
+        Path cacheFile = tmp.resolve("out").resolve("commits.idx");
+        Files.createDirectories(cacheFile.getParent());
+        Files.write(cacheFile, Arrays.asList("{\"sha\":\"" + revCommit.getId().name() + "\",\"title\":\"stale\"}"));
+
+        // when:
+        ChangelogGenerator.Commit commit;
+        try (CommitCache cache = CommitCache.open(cacheFile)) {
+            commit = cache.commit(revCommit);
+        }
+
+        // then:
+        assertThat(commit.asContext(false, "").get("commitTitle"), equalTo("!!fix: #1!!"));
+        assertThat(Files.readAllLines(cacheFile).get(0), equalTo(CommitCache.HEADER));
+        assertThat(Files.readAllLines(cacheFile), hasSize(2));
+    }
+
+    private static RevCommit commit(Path directory, String message) throws Exception {
+        try (Git git = Git.init().setDirectory(directory.toFile()).call()) {
+            return git.commit()
+                .setAllowEmpty(true)
+                .setAuthor("Duke", "duke@example.com")
+                .setCommitter("Duke", "duke@example.com")
+                .setMessage(message)
+                .call();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectIdRef;
+import org.eclipse.jgit.lib.Ref;
+import org.jreleaser.version.SemanticVersion;
+import org.jreleaser.version.Version;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class TagIndexTest {
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(?:v|release-)(.*)");
+
+    @Test
+    public void findsPreviousTagMatchingPattern() {
+        // given:
+        TagIndex index = index("v1.0.0", "v1.2.0", "release-1.3.0", "v2.0.0", "unparseable");
+
+        // when:
+        String previous = index.findPrevious(SemanticVersion.of("2.0.0")).map(GitSdk::extractTagName).orElse(null);
+
+        // then:
+        assertThat(previous, equalTo("v1.2.0"));
+    }
+
+    @Test
+    public void findsGreatestTagWithSameSpec() {
+        // given:
+        TagIndex index = index("v1.0.0", "v1.1.0", "v1.2.0-RC1", "v1.3.0");
+
+        // when:
+        String matching = index.findSameSpec(SemanticVersion.of("1.4.0"), "v1.3.0").map(GitSdk::extractTagName).orElse(null);
+
+        // then:
+        assertThat(matching, equalTo("v1.1.0"));
+    }
+
+    @Test
+    public void findsTagsByName() {
+        // given:
+        TagIndex index = index("v1.0.0", "unparseable");
+
+        // expect:
+        assertThat(index.findByName("unparseable").isPresent(), equalTo(true));
+        assertThat(index.findByName("v2.0.0").isPresent(), equalTo(false));
+    }
+
+    private static TagIndex index(String... names) {
+        List<Ref> refs = new ArrayList<>();
+        for (String name : names) {
+            refs.add(new ObjectIdRef.PeeledNonTag(Ref.Storage.PACKED, "refs/tags/" + name, ObjectId.zeroId()));
+        }
+        return TagIndex.of(refs, TagIndexTest::version, SemanticVersion.defaultOf(), Pattern.compile("v.*"));
+    }
+
+    private static Version version(String tagName) {
+        Matcher matcher = VERSION_PATTERN.matcher(tagName);
+        return matcher.matches() ? SemanticVersion.of(matcher.group(1)) : SemanticVersion.defaultOf();
+    }
+}
@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.gitea;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
@@ -25,6 +24,7 @@ import org.jreleaser.model.internal.upload.GiteaUploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.UploadBody;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -67,7 +67,7 @@ public class GiteaArtifactUploader extends AbstractArtifactUploader<org.jrelease
 
         String token = uploader.getResolvedToken();
 
-        for (Artifact artifact : artifacts) {
+        uploadArtifacts(artifacts, artifact -> {
             Path path = artifact.getEffectivePath(context);
             context.getLogger().info(" - {}", path.getFileName());
 
@@ -75,7 +75,7 @@ public class GiteaArtifactUploader extends AbstractArtifactUploader<org.jrelease
                 try {
                     Map<String, String> headers = new LinkedHashMap<>();
                     headers.put("Authorization", "token " + token);
-                    FormData data = ClientUtils.toFormData(path);
+                    UploadBody data = ClientUtils.toUploadBody(path);
 
                     ClientUtils.putFile(context.getLogger(),
                         uploader.getResolvedUploadUrl(context, artifact),
@@ -92,6 +92,6 @@ public class GiteaArtifactUploader extends AbstractArtifactUploader<org.jrelease
                         context.getBasedir().relativize(path)), e.getCause());
                 }
             }
-        }
+        });
     }
 }
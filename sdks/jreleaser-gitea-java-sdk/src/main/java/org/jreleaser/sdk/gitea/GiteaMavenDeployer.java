@@ -17,13 +17,13 @@
  */
 package org.jreleaser.sdk.gitea;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.deploy.DeployException;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractMavenDeployer;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.UploadBody;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
@@ -89,7 +89,7 @@ public class GiteaMavenDeployer extends AbstractMavenDeployer<org.jreleaser.mode
                 try {
                     Map<String, String> headers = new LinkedHashMap<>();
                     headers.put("Authorization", "token " + token);
-                    FormData data = ClientUtils.toFormData(localPath);
+                    UploadBody data = ClientUtils.toUploadBody(localPath);
 
                     String url = baseUrl + deployable.getPath() + "/" + deployable.getFilename();
                     ClientUtils.putFile(context.getLogger(),
@@ -23,6 +23,7 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.spi.release.Asset;
+import org.jreleaser.sdk.commons.RequestScheduler;
 import org.kohsuke.github.GHAsset;
 import org.kohsuke.github.GHBranch;
 import org.kohsuke.github.GHDiscussion;
@@ -33,6 +34,7 @@ import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHLabel;
 import org.kohsuke.github.GHMilestone;
 import org.kohsuke.github.GHOrganization;
+import org.kohsuke.github.GHRateLimit;
 import org.kohsuke.github.GHRelease;
 import org.kohsuke.github.GHReleaseBuilder;
 import org.kohsuke.github.GHRepository;
@@ -41,6 +43,7 @@ import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
 import org.kohsuke.github.HttpConnector;
 import org.kohsuke.github.PagedIterable;
+import org.kohsuke.github.RateLimitChecker;
 import org.kohsuke.github.extras.ImpatientHttpConnector;
 
 import java.io.FileNotFoundException;
@@ -88,6 +91,7 @@ class Github {
 
         github = new GitHubBuilder()
             .withConnector(new JReleaserHttpConnector(connectTimeout, readTimeout))
+            .withRateLimitChecker(new JReleaserRateLimitChecker(endpoint))
             .withEndpoint(endpoint)
             .withOAuthToken(token)
             .build();
@@ -306,9 +310,37 @@ class Github {
 
         @Override
         public HttpURLConnection connect(URL url) throws IOException {
+            // github-api handles rate limit responses itself, share the host's pacing with the Feign based client
+            RequestScheduler.getInstance().pace(url.toString());
             HttpURLConnection connection = super.connect(url);
             connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
             return connection;
         }
     }
+
+    private static class JReleaserRateLimitChecker extends RateLimitChecker {
+        private final String endpoint;
+
+        private JReleaserRateLimitChecker(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        protected boolean checkRateLimit(GHRateLimit.Record record, long count) {
+            // github-api tracks the quota reported by the last response, feed it to the host's pacing
+            RequestScheduler.getInstance().update(endpoint, name -> {
+                switch (name) {
+                    case "X-RateLimit-Remaining":
+                        return String.valueOf(record.getRemaining());
+                    case "X-RateLimit-Limit":
+                        return String.valueOf(record.getLimit());
+                    case "X-RateLimit-Reset":
+                        return String.valueOf(record.getResetEpochSeconds());
+                    default:
+                        return null;
+                }
+            });
+            return false;
+        }
+    }
 }
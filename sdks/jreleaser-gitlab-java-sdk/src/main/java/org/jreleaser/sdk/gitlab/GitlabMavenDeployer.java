@@ -17,13 +17,13 @@
  */
 package org.jreleaser.sdk.gitlab;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.deploy.DeployException;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractMavenDeployer;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.UploadBody;
 import org.jreleaser.sdk.gitlab.api.GlPackage;
 
 import java.io.IOException;
@@ -104,7 +104,7 @@ public class GitlabMavenDeployer extends AbstractMavenDeployer<org.jreleaser.mod
                 try {
                     Map<String, String> headers = new LinkedHashMap<>();
                     headers.put("Authorization", "Bearer " + token);
-                    FormData data = ClientUtils.toFormData(localPath);
+                    UploadBody data = ClientUtils.toUploadBody(localPath);
 
                     String url = baseUrl + deployable.getPath() + "/" + deployable.getFilename();
                     ClientUtils.putFile(context.getLogger(),
@@ -473,8 +473,7 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
                     Path path = artifact.getEffectivePath(context, distribution);
                     if (isSkip(artifact, keys)) continue;
                     if (Files.exists(path) && 0 != path.toFile().length()) {
-                        String platform = artifact.getPlatform();
-                        String platformReplaced = distribution.getPlatform().applyReplacements(platform);
+                        String platformReplaced = Artifacts.platformReplaced(artifact, distribution.getPlatform());
                         if (isNotBlank(platformReplaced)) {
                             artifact.getExtraProperties().put(KEY_PLATFORM_REPLACED, platformReplaced);
                         }
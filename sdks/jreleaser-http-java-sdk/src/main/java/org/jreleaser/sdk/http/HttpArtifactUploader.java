@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.http;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Http;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -26,6 +25,7 @@ import org.jreleaser.model.internal.upload.HttpUploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.UploadBody;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -73,13 +73,13 @@ public class HttpArtifactUploader extends AbstractArtifactUploader<org.jreleaser
         String username = uploader.getResolvedUsername();
         String password = uploader.getResolvedPassword();
 
-        for (Artifact artifact : artifacts) {
+        uploadArtifacts(artifacts, artifact -> {
             Path path = artifact.getEffectivePath(context);
             context.getLogger().info(" - {}", path.getFileName());
 
             if (!context.isDryrun()) {
                 try {
-                    FormData data = ClientUtils.toFormData(path);
+                    UploadBody data = ClientUtils.toUploadBody(path);
 
                     Map<String, String> headers = new LinkedHashMap<>();
                     switch (uploader.resolveAuthorization()) {
@@ -119,7 +119,7 @@ public class HttpArtifactUploader extends AbstractArtifactUploader<org.jreleaser
                         context.getBasedir().relativize(path)), e);
                 }
             }
-        }
+        });
     }
 
     private void resolveHeaders(Artifact artifact, Map<String, String> headers) {
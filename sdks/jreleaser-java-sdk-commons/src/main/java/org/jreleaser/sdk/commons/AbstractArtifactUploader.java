@@ -17,6 +17,8 @@
  */
 package org.jreleaser.sdk.commons;
 
+import org.jreleaser.bundle.RB;
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.checksum.Checksum;
 import org.jreleaser.model.internal.common.Artifact;
@@ -27,19 +29,21 @@ import org.jreleaser.model.internal.upload.ArtifactoryUploader;
 import org.jreleaser.model.internal.upload.Uploader;
 import org.jreleaser.model.internal.util.Artifacts;
 import org.jreleaser.model.spi.upload.ArtifactUploader;
+import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.Tracer;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-import static org.jreleaser.model.Constants.KEY_PLATFORM_REPLACED;
-import static org.jreleaser.model.api.checksum.Checksum.INDIVIDUAL_CHECKSUM;
 import static org.jreleaser.model.api.checksum.Checksum.KEY_SKIP_CHECKSUM;
 import static org.jreleaser.model.api.signing.Signing.KEY_SKIP_SIGNING;
-import static org.jreleaser.util.StringUtils.isNotBlank;
-import static org.jreleaser.util.StringUtils.isTrue;
 
 /**
  * @author Andres Almiray
@@ -65,7 +69,7 @@ public abstract class AbstractArtifactUploader<A extends org.jreleaser.model.api
                 if (isSkip(artifact, keys)) continue;
                 if (Files.exists(path) && 0 != path.toFile().length()) {
                     artifacts.add(artifact);
-                    if (uploadChecksums && isIndividual(context, artifact) &&
+                    if (uploadChecksums && Artifacts.isIndividual(context, artifact) &&
                         !artifact.extraPropertyIsTrue(KEY_SKIP_CHECKSUM)) {
                         for (Algorithm algorithm : checksum.getAlgorithms()) {
                             artifacts.add(Artifact.of(context.getChecksumsDirectory()
@@ -84,13 +88,9 @@ public abstract class AbstractArtifactUploader<A extends org.jreleaser.model.api
                     Path path = artifact.getEffectivePath(context, distribution);
                     if (isSkip(artifact, keys)) continue;
                     if (Files.exists(path) && 0 != path.toFile().length()) {
-                        String platform = artifact.getPlatform();
-                        String platformReplaced = distribution.getPlatform().applyReplacements(platform);
-                        if (isNotBlank(platformReplaced)) {
-                            artifact.getExtraProperties().put(KEY_PLATFORM_REPLACED, platformReplaced);
-                        }
+                        // platformReplaced was set by Uploaders before uploaders were started
                         artifacts.add(artifact);
-                        if (uploadChecksums && isIndividual(context, distribution, artifact)) {
+                        if (uploadChecksums && Artifacts.isIndividual(context, distribution, artifact)) {
                             for (Algorithm algorithm : checksum.getAlgorithms()) {
                                 artifacts.add(Artifact.of(context.getChecksumsDirectory()
                                     .resolve(distribution.getName())
@@ -136,6 +136,60 @@ public abstract class AbstractArtifactUploader<A extends org.jreleaser.model.api
         return artifacts;
     }
 
+    /**
+     * Uploads every artifact with the given action, keeping up to {@code upload.connections}
+     * transfers in flight against this uploader's destination. All artifacts are attempted
+     * before failures are reported.
+     */
+    protected void uploadArtifacts(List<Artifact> artifacts, ArtifactUpload action) throws UploadException {
+        Integer connections = context.getModel().getUpload().getConnections();
+        int poolSize = Math.min(null != connections ? connections : 1, artifacts.size());
+        if (poolSize <= 1) {
+            for (Artifact artifact : artifacts) {
+                action.upload(artifact);
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Artifact artifact : artifacts) {
+                futures.add(executor.submit(Tracer.inherit(ExtensionManagerHolder.inherit(
+                    context.withChildLogger(null, () -> {
+                        action.upload(artifact);
+                        return null;
+                    })))));
+            }
+
+            List<UploadException> failures = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    context.getLogger().error(RB.$("uploaders.artifact.failed"),
+                        artifacts.get(i).getEffectivePath(context).getFileName(), cause.getMessage());
+                    context.getLogger().trace(cause);
+                    failures.add(cause instanceof UploadException ? (UploadException) cause : new UploadException(cause));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UploadException(e);
+                }
+            }
+
+            if (failures.size() == 1) {
+                throw failures.get(0);
+            } else if (!failures.isEmpty()) {
+                UploadException exception = new UploadException(RB.$("ERROR_uploads_failed", failures.size()), failures.get(0));
+                failures.subList(1, failures.size()).forEach(exception::addSuppressed);
+                throw exception;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private boolean isSkip(ExtraProperties props, List<String> keys) {
         for (String key : keys) {
             if (props.extraPropertyIsTrue(key)) {
@@ -145,20 +199,8 @@ public abstract class AbstractArtifactUploader<A extends org.jreleaser.model.api
         return false;
     }
 
-    private boolean isIndividual(JReleaserContext context, Artifact artifact) {
-        if (artifact.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
-            return isTrue(artifact.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
-        }
-        return context.getModel().getChecksum().isIndividual();
-    }
-
-    private boolean isIndividual(JReleaserContext context, Distribution distribution, Artifact artifact) {
-        if (artifact.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
-            return isTrue(artifact.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
-        }
-        if (distribution.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
-            return isTrue(distribution.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
-        }
-        return context.getModel().getChecksum().isIndividual();
+    @FunctionalInterface
+    protected interface ArtifactUpload {
+        void upload(Artifact artifact) throws UploadException;
     }
 }
@@ -27,23 +27,21 @@ import org.jreleaser.sdk.signing.SigningUtils;
 import org.jreleaser.sdk.tool.PomChecker;
 import org.jreleaser.sdk.tool.ToolException;
 import org.jreleaser.util.Algorithm;
-import org.jreleaser.util.ChecksumUtils;
 import org.jreleaser.util.DefaultVersions;
 import org.jreleaser.util.Errors;
+import org.jreleaser.util.FileTreeIndex;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,7 +50,6 @@ import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static java.nio.file.FileVisitResult.CONTINUE;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -92,18 +89,15 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
                     context.relativizeToBasedir(root).toString()));
             }
 
-            try {
-                DeployableCollector collector = new DeployableCollector(root);
-
-                java.nio.file.Files.walkFileTree(root, collector);
-                if (collector.failed) {
-                    throw new JReleaserException(RB.$("ERROR_deployer_stage_resolution"));
-                }
-
-                deployables.addAll(collector.deployables);
-            } catch (IOException e) {
-                throw new JReleaserException(RB.$("ERROR_deployer_unexpected_error_stage"), e);
+            DeployableCollector collector = new DeployableCollector(root);
+            FileTreeIndex.Listing listing = context.getFileTreeIndex().list(root);
+            listing.getPaths().forEach(collector::match);
+            if (listing.isFailed()) {
+                listing.getFailures().forEach(collector::failed);
+                throw new JReleaserException(RB.$("ERROR_deployer_stage_resolution"));
             }
+
+            deployables.addAll(collector.deployables);
         }
 
         Map<String, Deployable> deployablesMap = deployables.stream()
@@ -116,8 +110,15 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
             throw new JReleaserException(RB.$("ERROR_deployer_maven_central_rules"));
         }
 
-        signDeployables(deployablesMap, deployables);
-        checksumDeployables(deployablesMap, deployables);
+        try {
+            signDeployables(deployablesMap, deployables);
+            checksumDeployables(deployablesMap, deployables);
+        } finally {
+            // signatures and checksums are written next to staged files
+            for (String stagingRepository : getDeployer().getStagingRepositories()) {
+                context.getFileTreeIndex().invalidate(context.getBasedir().resolve(stagingRepository));
+            }
+        }
 
         return deployables;
     }
@@ -246,7 +247,8 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
             }
 
             try {
-                byte[] data = Files.readAllBytes(deployable.getLocalPath());
+                Map<Algorithm, String> checksums = context.getChecksumIndex()
+                    .checksums(deployable.getLocalPath(), Arrays.asList(ALGORITHMS));
                 for (Algorithm algorithm : ALGORITHMS) {
                     Deployable checksumDeployable = deployable.deriveByFilename(deployable.getFilename() + "." + algorithm.formatted());
 
@@ -255,7 +257,7 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
                     }
 
                     context.getLogger().debug(RB.$("checksum.calculating", algorithm.formatted(), deployable.getFilename()));
-                    String checksum = ChecksumUtils.checksum(algorithm, data);
+                    String checksum = checksums.get(algorithm);
                     Files.write(checksumDeployable.getLocalPath(), checksum.getBytes());
                     deployables.add(checksumDeployable);
                 }
@@ -350,11 +352,10 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
         }
     }
 
-    private class DeployableCollector extends SimpleFileVisitor<Path> {
+    private class DeployableCollector {
         private final Path root;
         private final Set<Deployable> deployables = new TreeSet<>();
         private final List<PathMatcher> matchers = new ArrayList<>();
-        private boolean failed;
 
         public DeployableCollector(Path root) {
             this.root = root;
@@ -383,19 +384,10 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
             }
         }
 
-        @Override
-        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            match(file);
-            return CONTINUE;
-        }
-
-        @Override
-        public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException {
-            failed = true;
+        private void failed(Path file, IOException e) {
             context.getLogger().trace(e);
             context.getLogger().error(RB.$("ERROR_artifacts_unexpected_error_path"),
                 root.toAbsolutePath().relativize(file.toAbsolutePath()), e);
-            return CONTINUE;
         }
     }
 }
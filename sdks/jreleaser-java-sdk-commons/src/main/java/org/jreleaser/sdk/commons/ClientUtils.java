@@ -22,11 +22,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.Client;
 import feign.Feign;
 import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
 import feign.form.FormData;
 import feign.form.FormEncoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
-import org.apache.commons.io.IOUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
@@ -36,22 +49,13 @@ import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.internal.JReleaserModelPrinter;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.upload.UploadException;
+import org.jreleaser.util.Tracer;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSession;
-import javax.net.ssl.SSLSocketFactory;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.Reader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.cert.X509Certificate;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -89,28 +93,47 @@ public final class ClientUtils {
             Files.readAllBytes(asset));
     }
 
+    public static UploadBody toUploadBody(Path asset) throws IOException {
+        return UploadBody.of(asset, MediaType.parse(TIKA.detect(asset)).toString());
+    }
+
     public static Feign.Builder builder(JReleaserLogger logger,
                                         int connectTimeout,
                                         int readTimeout) {
         requireNonNull(logger, "'logger' must not be null");
 
-        Feign.Builder builder = Feign.builder();
-
-        if (Boolean.getBoolean("jreleaser.disableSslValidation")) {
-            logger.warn(RB.$("warn_ssl_disabled"));
-            builder = builder.client(
-                new Client.Default(nonValidatingSSLSocketFactory(),
-                    new NonValidatingHostnameVerifier()));
-        }
-
-        return builder
+        return Feign.builder()
+            .client(client(logger))
             .encoder(new FormEncoder(new JacksonEncoder()))
             .decoder(new JacksonDecoder())
-            .requestInterceptor(template -> template.header("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion()))
+            .retryer(new TracingRetryer(new Retryer.Default()))
+            .requestInterceptor(template -> {
+                template.header("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
+                Tracer.httpRequest();
+                if (null != template.body()) Tracer.bytesWritten(template.body().length);
+            })
             .errorDecoder((methodKey, response) -> new RestAPIException(response.request(), response.status(), response.reason(), response.headers()))
             .options(new Request.Options(connectTimeout, TimeUnit.SECONDS, readTimeout, TimeUnit.SECONDS, true));
     }
 
+    /**
+     * Feign client backed by the shared, pooled HTTP transport. Requests are paced and
+     * retried by the {@link RequestScheduler}.
+     *
+     * @since 1.4.0
+     */
+    public static Client client(JReleaserLogger logger) {
+        return new SchedulingClient(HttpTransport.feignClient(validateSsl(logger)), logger);
+    }
+
+    private static boolean validateSsl(JReleaserLogger logger) {
+        if (Boolean.getBoolean("jreleaser.disableSslValidation")) {
+            logger.warn(RB.$("warn_ssl_disabled"));
+            return false;
+        }
+        return true;
+    }
+
     public static void webhook(JReleaserLogger logger,
                                String webhookUrl,
                                int connectTimeout,
@@ -134,52 +157,44 @@ public final class ClientUtils {
                                int readTimeout,
                                String message) throws AnnounceException {
         try {
-            // create URL
-            URL url = new URL(webhookUrl);
-            // open connection
-            logger.debug(RB.$("webhook.connection.open"));
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            // set options
-            logger.debug(RB.$("webhook.connection.configure"));
-            connection.setConnectTimeout(connectTimeout * 1000);
-            connection.setReadTimeout(readTimeout * 1000);
-            connection.setAllowUserInteraction(false);
-            connection.setInstanceFollowRedirects(true);
-
-            connection.setRequestMethod("POST");
-            connection.addRequestProperty("Content-Type", "application/json");
-            connection.addRequestProperty("Accept", "application/json");
-            connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            connection.setDoOutput(true);
+            CloseableHttpClient client = HttpTransport.httpClient(validateSsl(logger));
+            StringEntity entity = new StringEntity(message, ContentType.APPLICATION_JSON);
+
+            HttpUriRequest request = RequestBuilder.post(webhookUrl)
+                .setConfig(HttpTransport.requestConfig(connectTimeout, readTimeout, false))
+                .addHeader("Accept", "application/json")
+                .addHeader("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion())
+                .setEntity(entity)
+                .build();
 
             // write message
             logger.debug(RB.$("webhook.message.send"));
-            try (OutputStream os = connection.getOutputStream()) {
-                byte[] input = message.getBytes(UTF_8);
-                os.write(input, 0, input.length);
-            }
-
-            // handle response
-            logger.debug(RB.$("webhook.response.handle"));
-            int status = connection.getResponseCode();
-            if (status >= 400) {
-                String reason = connection.getResponseMessage();
-                StringBuilder b = new StringBuilder("Webhook replied with: ")
-                    .append(status);
-                if (isNotBlank(reason)) {
-                    b.append(" reason: ")
-                        .append(reason);
-                }
-                try (Reader reader = new InputStreamReader(connection.getErrorStream(), UTF_8)) {
-                    message = IOUtils.toString(reader);
+            Tracer.httpRequest();
+            try (CloseableHttpResponse response = execute(logger, client, request)) {
+                Tracer.bytesWritten(entity.getContentLength());
+
+                // handle response
+                logger.debug(RB.$("webhook.response.handle"));
+                int status = response.getStatusLine().getStatusCode();
+                if (status >= 400) {
+                    String reason = response.getStatusLine().getReasonPhrase();
+                    StringBuilder b = new StringBuilder("Webhook replied with: ")
+                        .append(status);
+                    if (isNotBlank(reason)) {
+                        b.append(" reason: ")
+                            .append(reason);
+                    }
+                    message = readBody(response);
                     if (isNotBlank(message)) {
                         b.append(",")
                             .append(message);
                     }
+                    throw new AnnounceException(b.toString());
                 }
-                throw new AnnounceException(b.toString());
+                // drain the response so that the connection returns to the pool
+                EntityUtils.consume(response.getEntity());
             }
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
             logger.trace(e);
             throw new AnnounceException(e);
         }
@@ -191,6 +206,15 @@ public final class ClientUtils {
                                 int readTimeout,
                                 FormData data,
                                 Map<String, String> headers) throws UploadException {
+        postFile(logger, url, connectTimeout, readTimeout, UploadBody.of(data), headers);
+    }
+
+    public static void postFile(JReleaserLogger logger,
+                                String url,
+                                int connectTimeout,
+                                int readTimeout,
+                                UploadBody data,
+                                Map<String, String> headers) throws UploadException {
         headers.put("METHOD", "POST");
         uploadFile(logger, url, connectTimeout, readTimeout, data, headers);
     }
@@ -201,6 +225,15 @@ public final class ClientUtils {
                                int readTimeout,
                                FormData data,
                                Map<String, String> headers) throws UploadException {
+        putFile(logger, url, connectTimeout, readTimeout, UploadBody.of(data), headers);
+    }
+
+    public static void putFile(JReleaserLogger logger,
+                               String url,
+                               int connectTimeout,
+                               int readTimeout,
+                               UploadBody data,
+                               Map<String, String> headers) throws UploadException {
         headers.put("METHOD", "PUT");
         headers.put("Expect", "100-continue");
         uploadFile(logger, url, connectTimeout, readTimeout, data, headers);
@@ -210,108 +243,195 @@ public final class ClientUtils {
                                    String url,
                                    int connectTimeout,
                                    int readTimeout,
-                                   FormData data,
+                                   UploadBody data,
                                    Map<String, String> headers) throws UploadException {
         try {
-            // create URL
-            URL theUrl = new URL(url);
-            logger.debug("url: {}", theUrl);
-
-            // open connection
-            logger.debug(RB.$("webhook.connection.open"));
-            HttpURLConnection connection = (HttpURLConnection) theUrl.openConnection();
-            // set options
-            logger.debug(RB.$("webhook.connection.configure"));
-            connection.setConnectTimeout(connectTimeout * 1000);
-            connection.setReadTimeout(readTimeout * 1000);
-            connection.setAllowUserInteraction(false);
-            connection.setInstanceFollowRedirects(true);
-
-            connection.setRequestMethod(headers.remove("METHOD"));
-            connection.addRequestProperty("Accept", "*/*");
-            connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            connection.addRequestProperty("Content-Length", data.getData().length + "");
-            connection.setRequestProperty("Content-Type", data.getContentType());
-            headers.forEach(connection::setRequestProperty);
-
-            connection.getRequestProperties().forEach((k, v) -> {
-                if (JReleaserModelPrinter.isSecret(k)) {
-                    logger.debug("{}: {}", k, Constants.HIDE);
+            logger.debug("url: {}", url);
+
+            CloseableHttpClient client = HttpTransport.httpClient(validateSsl(logger));
+            boolean expectContinue = "100-continue".equalsIgnoreCase(headers.remove("Expect"));
+            long contentLength = data.getContentLength();
+
+            RequestBuilder builder = RequestBuilder.create(headers.remove("METHOD"))
+                .setUri(url)
+                .setConfig(HttpTransport.requestConfig(connectTimeout, readTimeout, expectContinue))
+                .addHeader("Accept", "*/*")
+                .addHeader("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion())
+                // stream the body instead of buffering it in memory
+                .setEntity(new UploadBodyEntity(data, contentLength));
+            headers.forEach(builder::setHeader);
+            HttpUriRequest request = builder.build();
+
+            logger.debug("{}: {}", "Content-Length", contentLength);
+            logger.debug("{}: {}", "Content-Type", data.getContentType());
+            for (Header header : request.getAllHeaders()) {
+                if (JReleaserModelPrinter.isSecret(header.getName())) {
+                    logger.debug("{}: {}", header.getName(), Constants.HIDE);
                 } else {
-                    logger.debug("{}: {}", k, v);
+                    logger.debug("{}: {}", header.getName(), header.getValue());
                 }
-            });
-
-            connection.setDoOutput(true);
+            }
 
             // write message
             logger.debug(RB.$("webhook.data.send"));
-            try (OutputStream os = connection.getOutputStream()) {
-                os.write(data.getData(), 0, data.getData().length);
-                os.flush();
-            }
-
-            // handle response
-            logger.debug(RB.$("webhook.response.handle"));
-            int status = connection.getResponseCode();
-            if (status >= 400) {
-                String reason = connection.getResponseMessage();
-                StringBuilder b = new StringBuilder("Got ")
-                    .append(status);
-                if (isNotBlank(reason)) {
-                    b.append(" reason: ")
-                        .append(reason);
-                }
-                logger.trace(RB.$("webhook.server.reply", status, reason));
+            Tracer.httpRequest();
+            try (CloseableHttpResponse response = execute(logger, client, request)) {
+                Tracer.bytesWritten(contentLength);
+
+                // handle response
+                logger.debug(RB.$("webhook.response.handle"));
+                int status = response.getStatusLine().getStatusCode();
+                if (status >= 400) {
+                    String reason = response.getStatusLine().getReasonPhrase();
+                    StringBuilder b = new StringBuilder("Got ")
+                        .append(status);
+                    if (isNotBlank(reason)) {
+                        b.append(" reason: ")
+                            .append(reason);
+                    }
+                    logger.trace(RB.$("webhook.server.reply", status, reason));
 
-                try (Reader reader = new InputStreamReader(connection.getErrorStream(), UTF_8)) {
-                    String message = IOUtils.toString(reader);
+                    String message = readBody(response);
                     if (isNotBlank(message)) {
                         b.append(", ")
                             .append(message);
                     }
+                    throw new UploadException(b.toString());
                 }
-                throw new UploadException(b.toString());
+                // drain the response so that the connection returns to the pool
+                EntityUtils.consume(response.getEntity());
             }
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
             logger.trace(e);
             throw new UploadException(e);
         }
     }
 
-    private static SSLSocketFactory nonValidatingSSLSocketFactory() {
-        try {
-            SSLContext sslContext = SSLContext.getInstance("SSL");
-            sslContext.init(null, new TrustManager[]{new NonValidatingTrustManager()}, null); // lgtm [java/insecure-trustmanager]
-            return sslContext.getSocketFactory();
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
-        }
+    private static CloseableHttpResponse execute(JReleaserLogger logger,
+                                                 CloseableHttpClient client,
+                                                 HttpUriRequest request) throws IOException {
+        return RequestScheduler.getInstance().execute(logger, request.getURI().toString(), request.getMethod(),
+            new RequestScheduler.Exchange<CloseableHttpResponse>() {
+                @Override
+                public CloseableHttpResponse send() throws IOException {
+                    return client.execute(request);
+                }
+
+                @Override
+                public int status(CloseableHttpResponse response) {
+                    return response.getStatusLine().getStatusCode();
+                }
+
+                @Override
+                public String header(CloseableHttpResponse response, String name) {
+                    Header header = response.getFirstHeader(name);
+                    return null != header ? header.getValue() : null;
+                }
+
+                @Override
+                public void discard(CloseableHttpResponse response) throws IOException {
+                    try {
+                        EntityUtils.consume(response.getEntity());
+                    } finally {
+                        response.close();
+                    }
+                }
+            });
+    }
+
+    private static String readBody(HttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        return null != entity ? EntityUtils.toString(entity, UTF_8) : null;
     }
 
-    private static class NonValidatingTrustManager implements X509TrustManager {
-        private static final X509Certificate[] EMPTY_CERTIFICATES = new X509Certificate[0];
+    static final class UploadBodyEntity extends AbstractHttpEntity {
+        private final UploadBody body;
+        private final long contentLength;
+
+        UploadBodyEntity(UploadBody body, long contentLength) {
+            this.body = body;
+            this.contentLength = contentLength;
+            setContentType(body.getContentType());
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
 
         @Override
-        public void checkClientTrusted(X509Certificate[] chain, String authType) {
-            // noop
+        public long getContentLength() {
+            return contentLength;
         }
 
         @Override
-        public void checkServerTrusted(X509Certificate[] chain, String authType) {
-            // noop
+        public InputStream getContent() throws IOException {
+            return body.openStream();
         }
 
         @Override
-        public X509Certificate[] getAcceptedIssuers() {
-            return EMPTY_CERTIFICATES;
+        public void writeTo(OutputStream out) throws IOException {
+            body.writeTo(out);
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
         }
     }
 
-    private static class NonValidatingHostnameVerifier implements HostnameVerifier {
+    private static final class SchedulingClient implements Client {
+        private final Client delegate;
+        private final JReleaserLogger logger;
+
+        private SchedulingClient(Client delegate, JReleaserLogger logger) {
+            this.delegate = delegate;
+            this.logger = logger;
+        }
+
         @Override
-        public boolean verify(String hostname, SSLSession session) {
-            return true;
+        public Response execute(Request request, Request.Options options) throws IOException {
+            return RequestScheduler.getInstance().execute(logger, request.url(), request.httpMethod().name(),
+                new RequestScheduler.Exchange<Response>() {
+                    @Override
+                    public Response send() throws IOException {
+                        return delegate.execute(request, options);
+                    }
+
+                    @Override
+                    public int status(Response response) {
+                        return response.status();
+                    }
+
+                    @Override
+                    public String header(Response response, String name) {
+                        return RestAPIException.firstHeader(response.headers(), name);
+                    }
+
+                    @Override
+                    public void discard(Response response) {
+                        response.close();
+                    }
+                });
+        }
+    }
+
+    private static final class TracingRetryer implements Retryer {
+        private final Retryer delegate;
+
+        private TracingRetryer(Retryer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void continueOrPropagate(RetryableException e) {
+            delegate.continueOrPropagate(e);
+            Tracer.httpRetry();
+        }
+
+        @Override
+        public Retryer clone() {
+            return new TracingRetryer(delegate.clone());
         }
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.security.cert.X509Certificate;
+
+/**
+ * Process wide HTTP transport. Every SDK built on top of {@code ClientUtils} sends its
+ * requests through the same connection pool, which keeps connections alive between
+ * requests and reuses TLS sessions, paying the handshake once per host.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+final class HttpTransport {
+    private static final int MAX_CONNECTIONS = 64;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 16;
+    private static final int VALIDATE_AFTER_INACTIVITY = 2000;
+
+    private HttpTransport() {
+        // noop
+    }
+
+    static CloseableHttpClient httpClient(boolean validateSsl) {
+        return validateSsl ? Validating.CLIENT : NonValidating.CLIENT;
+    }
+
+    static Client feignClient(boolean validateSsl) {
+        return validateSsl ? Validating.FEIGN : NonValidating.FEIGN;
+    }
+
+    static RequestConfig requestConfig(int connectTimeout, int readTimeout, boolean expectContinue) {
+        return RequestConfig.custom()
+            .setConnectTimeout(connectTimeout * 1000)
+            .setConnectionRequestTimeout(connectTimeout * 1000)
+            .setSocketTimeout(readTimeout * 1000)
+            .setRedirectsEnabled(true)
+            .setExpectContinueEnabled(expectContinue)
+            .build();
+    }
+
+    private static CloseableHttpClient createClient(SSLConnectionSocketFactory sslSocketFactory) {
+        Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", sslSocketFactory)
+            .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
+        connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        // servers drop idle connections on their own schedule, check before reusing them
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY);
+
+        return HttpClientBuilder.create()
+            .useSystemProperties()
+            .setConnectionManager(connectionManager)
+            .disableCookieManagement()
+            .build();
+    }
+
+    // holders are initialized on first use only
+
+    private static final class Validating {
+        private static final CloseableHttpClient CLIENT = createClient(SSLConnectionSocketFactory.getSystemSocketFactory());
+        private static final Client FEIGN = new ApacheHttpClient(CLIENT);
+    }
+
+    private static final class NonValidating {
+        private static final CloseableHttpClient CLIENT = createClient(
+            new SSLConnectionSocketFactory(nonValidatingSSLContext(), NoopHostnameVerifier.INSTANCE));
+        private static final Client FEIGN = new ApacheHttpClient(CLIENT);
+
+        private static SSLContext nonValidatingSSLContext() {
+            try {
+                SSLContext sslContext = SSLContext.getInstance("SSL");
+                sslContext.init(null, new TrustManager[]{new NonValidatingTrustManager()}, null); // lgtm [java/insecure-trustmanager]
+                return sslContext;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class NonValidatingTrustManager implements X509TrustManager {
+        private static final X509Certificate[] EMPTY_CERTIFICATES = new X509Certificate[0];
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            // noop
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            // noop
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return EMPTY_CERTIFICATES;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.apache.http.client.utils.DateUtils;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.util.Tracer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Paces and retries HTTP requests on a per host basis.
+ * <p>
+ * Every host gets a token bucket that limits the request rate. Rate limit headers sent by
+ * the server ({@code X-RateLimit-*}, {@code RateLimit-*}) slow the bucket down once the
+ * remaining quota runs low, and a {@code Retry-After} or exhausted quota holds back every
+ * request to that host until the server is ready again. Throttled and temporarily
+ * unavailable responses are retried with exponential backoff and jitter.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public final class RequestScheduler {
+    private static final RequestScheduler INSTANCE = new RequestScheduler(
+        Integer.getInteger("jreleaser.http.maxAttempts", 5),
+        TimeUnit.MILLISECONDS.toNanos(Long.getLong("jreleaser.http.retryDelay", 500L)),
+        TimeUnit.SECONDS.toNanos(Long.getLong("jreleaser.http.maxRetryDelay", 60L)),
+        Integer.getInteger("jreleaser.http.requestsPerSecond", 10),
+        Integer.getInteger("jreleaser.http.burst", 20));
+
+    // start pacing requests once less than this fraction of the quota is left
+    private static final double LOW_QUOTA = 0.1d;
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+    private final int maxAttempts;
+    private final long retryDelay;
+    private final long maxRetryDelay;
+    private final double requestsPerSecond;
+    private final double burst;
+
+    RequestScheduler(int maxAttempts, long retryDelay, long maxRetryDelay, int requestsPerSecond, int burst) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = Math.max(1L, retryDelay);
+        this.maxRetryDelay = Math.max(this.retryDelay, maxRetryDelay);
+        this.requestsPerSecond = requestsPerSecond > 0 ? requestsPerSecond : Double.POSITIVE_INFINITY;
+        this.burst = Math.max(1, burst);
+    }
+
+    public static RequestScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sends a request once the target host allows it, retrying while the server reports
+     * it is throttling or temporarily unavailable. The last response is returned as is.
+     */
+    public <R> R execute(JReleaserLogger logger, String url, String method, Exchange<R> exchange) throws IOException {
+        String host = hostOf(url);
+        HostState state = state(host);
+
+        for (int attempt = 1; ; attempt++) {
+            pause(state.reserve(System.nanoTime()));
+
+            R response = exchange.send();
+            int status = exchange.status(response);
+            RateLimit limit = RateLimit.of(name -> exchange.header(response, name));
+            state.update(limit, System.nanoTime(), maxRetryDelay);
+
+            long delay = attempt < maxAttempts ? retryDelay(method, status, limit, attempt) : -1L;
+            if (delay < 0) return response;
+
+            exchange.discard(response);
+            state.holdUntil(System.nanoTime() + delay);
+            Tracer.httpRetry();
+            logger.debug(RB.$("http.request.retry"), host, status,
+                TimeUnit.NANOSECONDS.toMillis(delay), attempt + 1, maxAttempts);
+        }
+    }
+
+    /**
+     * Waits until the target host allows another request. For clients that handle
+     * responses and retries on their own but should still share the host's pacing.
+     */
+    public void pace(String url) throws IOException {
+        pause(state(hostOf(url)).reserve(System.nanoTime()));
+    }
+
+    /**
+     * Adjusts the target host's pacing to rate limit information obtained by a client that
+     * handles responses on its own.
+     */
+    public void update(String url, Headers headers) {
+        state(hostOf(url)).update(RateLimit.of(headers), System.nanoTime(), maxRetryDelay);
+    }
+
+    private HostState state(String host) {
+        return hosts.computeIfAbsent(host, k -> new HostState(requestsPerSecond, burst));
+    }
+
+    long retryDelay(String method, int status, RateLimit limit, int attempt) {
+        boolean unavailable = 503 == status || ((502 == status || 504 == status) && isIdempotent(method));
+        if (!isRateLimited(status, limit) && !unavailable) return -1L;
+
+        long delay = limit.retryAfter;
+        if (delay < 0 && 0 == limit.remaining && limit.reset > 0) {
+            delay = limit.reset;
+        }
+        if (delay >= 0) {
+            // the server asked for more than we are willing to wait, fail right away
+            return delay <= maxRetryDelay ? delay : -1L;
+        }
+
+        // exponential backoff with equal jitter
+        long ceiling = Math.min(maxRetryDelay, retryDelay << Math.min(attempt - 1, 20));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private static boolean isRateLimited(int status, RateLimit limit) {
+        // GitHub reports secondary rate limits as 403 with rate limit headers
+        return 429 == status || (403 == status && (limit.retryAfter >= 0 || 0 == limit.remaining));
+    }
+
+    private static boolean isIdempotent(String method) {
+        switch (String.valueOf(method).toUpperCase()) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+            case "PUT":
+            case "DELETE":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void pause(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            Tracer.httpWait(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException x = new InterruptedIOException();
+            x.initCause(e);
+            throw x;
+        }
+    }
+
+    static String hostOf(String url) {
+        try {
+            String authority = URI.create(url).getAuthority();
+            return isBlank(authority) ? url : authority;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    /**
+     * Adapts a client's request/response types to the scheduler.
+     */
+    public interface Exchange<R> {
+        R send() throws IOException;
+
+        int status(R response);
+
+        String header(R response, String name);
+
+        /**
+         * Releases a response that is not handed back to the caller because the request is retried.
+         */
+        void discard(R response) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Headers {
+        String get(String name);
+    }
+
+    static final class RateLimit {
+        private static final RateLimit NONE = new RateLimit(-1L, -1L, -1L, -1L);
+
+        // all times are relative to now, in nanoseconds; -1 when unknown
+        final long retryAfter;
+        final long remaining;
+        final long limit;
+        final long reset;
+
+        RateLimit(long retryAfter, long remaining, long limit, long reset) {
+            this.retryAfter = retryAfter;
+            this.remaining = remaining;
+            this.limit = limit;
+            this.reset = reset;
+        }
+
+        static RateLimit of(Headers headers) {
+            long retryAfter = parseRetryAfter(headers.get("Retry-After"));
+            long remaining = parseLong(first(headers, "X-RateLimit-Remaining", "RateLimit-Remaining"));
+            long limit = parseLong(first(headers, "X-RateLimit-Limit", "RateLimit-Limit"));
+            long reset = parseReset(first(headers, "X-RateLimit-Reset", "RateLimit-Reset"));
+            if (retryAfter < 0 && remaining < 0 && limit < 0 && reset < 0) return NONE;
+            return new RateLimit(retryAfter, remaining, limit, reset);
+        }
+
+        private static String first(Headers headers, String... names) {
+            for (String name : names) {
+                String value = headers.get(name);
+                if (!isBlank(value)) return value;
+            }
+            return null;
+        }
+
+        private static long parseRetryAfter(String value) {
+            if (isBlank(value)) return -1L;
+            long seconds = parseLong(value);
+            if (seconds >= 0) return TimeUnit.SECONDS.toNanos(seconds);
+            Date date = DateUtils.parseDate(value.trim());
+            if (null == date) return -1L;
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, date.getTime() - System.currentTimeMillis()));
+        }
+
+        private static long parseReset(String value) {
+            long reset = parseLong(value);
+            if (reset < 0) return -1L;
+            // GitHub and GitLab send epoch seconds, other servers send seconds from now
+            if (reset > EPOCH_SECONDS_THRESHOLD) {
+                reset = Math.max(0L, reset - TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+            }
+            return TimeUnit.SECONDS.toNanos(reset);
+        }
+
+        private static long parseLong(String value) {
+            if (isBlank(value)) return -1L;
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return -1L;
+            }
+        }
+    }
+
+    static final class HostState {
+        private final double defaultRate;
+        private final double defaultCapacity;
+        private double rate;
+        private double capacity;
+        private double tokens;
+        private long refilledAt;
+        private long heldUntil;
+
+        HostState(double rate, double capacity) {
+            this.defaultRate = rate;
+            this.defaultCapacity = capacity;
+            this.rate = rate;
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+            this.heldUntil = refilledAt;
+        }
+
+        /**
+         * Takes a token, returns how long the caller must wait before sending its request.
+         * Tokens may go negative, which queues callers behind each other.
+         */
+        synchronized long reserve(long now) {
+            refill(now);
+            tokens -= 1d;
+            long wait = tokens >= 0d || Double.isInfinite(rate) ? 0L : (long) (-tokens / rate * 1_000_000_000L);
+            return Math.max(wait, heldUntil - now);
+        }
+
+        synchronized void holdUntil(long time) {
+            heldUntil = Math.max(heldUntil, time);
+        }
+
+        /**
+         * Adjusts pacing to the rate limit reported by the server. Holds longer than
+         * {@code maxHold} are ignored, requests fail fast instead of stalling the release.
+         */
+        synchronized void update(RateLimit limit, long now, long maxHold) {
+            if (limit.retryAfter >= 0 && limit.retryAfter <= maxHold) {
+                holdUntil(now + limit.retryAfter);
+            }
+            if (limit.remaining < 0 || limit.reset < 0) return;
+
+            refill(now);
+            if (0 == limit.remaining) {
+                if (limit.reset <= maxHold) holdUntil(now + limit.reset);
+            } else if (limit.limit > 0 && limit.remaining < limit.limit * LOW_QUOTA) {
+                // spread what is left of the quota until it resets
+                double seconds = Math.max(1d, limit.reset / 1_000_000_000d);
+                rate = Math.min(defaultRate, limit.remaining / seconds);
+                capacity = 1d;
+                tokens = Math.min(tokens, capacity);
+            } else {
+                rate = defaultRate;
+                capacity = defaultCapacity;
+            }
+        }
+
+        private void refill(long now) {
+            if (Double.isInfinite(rate)) {
+                tokens = capacity;
+            } else {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) / 1_000_000_000d * rate);
+            }
+            refilledAt = now;
+        }
+    }
+}
@@ -69,4 +69,14 @@ public class RestAPIException extends RuntimeException {
     public boolean isForbidden() {
         return 403 == status;
     }
+
+    static String firstHeader(Map<String, Collection<String>> headers, String name) {
+        if (null == headers) return null;
+        for (Map.Entry<String, Collection<String>> e : headers.entrySet()) {
+            if (name.equalsIgnoreCase(e.getKey()) && null != e.getValue() && !e.getValue().isEmpty()) {
+                return e.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import feign.form.FormData;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Request body for file uploads. File backed bodies are streamed from disk so that
+ * memory usage does not depend on the size of the uploaded file.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public abstract class UploadBody {
+    private final String fileName;
+    private final String contentType;
+
+    private UploadBody(String fileName, String contentType) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public abstract long getContentLength() throws IOException;
+
+    public abstract void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Opens a new stream over the contents of this body, callers must close it.
+     */
+    public abstract InputStream openStream() throws IOException;
+
+    public static UploadBody of(Path file, String contentType) {
+        return new FileBody(file, contentType);
+    }
+
+    public static UploadBody of(String fileName, String contentType, byte[] content) {
+        return new BytesBody(fileName, contentType, content);
+    }
+
+    public static UploadBody of(FormData data) {
+        return of(data.getFileName(), data.getContentType(), data.getData());
+    }
+
+    private static final class FileBody extends UploadBody {
+        private final Path file;
+
+        private FileBody(Path file, String contentType) {
+            super(file.getFileName().toString(), contentType);
+            this.file = file;
+        }
+
+        @Override
+        public long getContentLength() throws IOException {
+            return Files.size(file);
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            Files.copy(file, out);
+        }
+
+        @Override
+        public InputStream openStream() throws IOException {
+            return Files.newInputStream(file);
+        }
+    }
+
+    private static final class BytesBody extends UploadBody {
+        private final byte[] content;
+
+        private BytesBody(String fileName, String contentType, byte[] content) {
+            super(fileName, contentType);
+            this.content = requireNonNull(content, "'content' must not be null");
+        }
+
+        @Override
+        public long getContentLength() {
+            return content.length;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(content, 0, content.length);
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.internal.common.Artifact;
+import org.jreleaser.model.internal.upload.FtpUploader;
+import org.jreleaser.model.internal.upload.Upload;
+import org.jreleaser.model.spi.upload.UploadException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class AbstractArtifactUploaderTest {
+    private final List<String> attempted = Collections.synchronizedList(new ArrayList<>());
+    private final Upload upload = new Upload();
+    private StubUploader uploader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        JReleaserModel model = mock(JReleaserModel.class);
+        when(model.getUpload()).thenReturn(upload);
+        JReleaserContext context = mock(JReleaserContext.class);
+        when(context.getModel()).thenReturn(model);
+        when(context.getLogger()).thenReturn(mock(JReleaserLogger.class));
+        when(context.withChildLogger(any(), any())).thenAnswer(invocation -> invocation.getArgument(1, Callable.class));
+        uploader = new StubUploader(context);
+    }
+
+    @Test
+    public void attemptsEveryArtifact() throws UploadException {
+        // given:
+        upload.setConnections(2);
+        List<Artifact> artifacts = artifacts("a", "b", "c", "d");
+
+        // when:
+        uploader.uploadArtifacts(artifacts, this::attempt);
+
+        // then:
+        assertThat(attempted, containsInAnyOrder("a", "b", "c", "d"));
+    }
+
+    @Test
+    public void rethrowsASingleFailureAsIs() {
+        // given:
+        upload.setConnections(2);
+        List<Artifact> artifacts = artifacts("a", "b", "c");
+        UploadException failure = new UploadException("b failed");
+
+        // when:
+        UploadException thrown = assertThrows(UploadException.class, () ->
+            uploader.uploadArtifacts(artifacts, artifact -> {
+                attempt(artifact);
+                if (name(artifact).equals("b")) throw failure;
+            }));
+
+        // then:
+        assertThat(thrown, sameInstance(failure));
+        assertThat(attempted, containsInAnyOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void aggregatesMultipleFailures() {
+        // given:
+        upload.setConnections(3);
+        List<Artifact> artifacts = artifacts("a", "b", "c");
+        UploadException first = new UploadException("a failed");
+        UploadException second = new UploadException("c failed");
+
+        // when:
+        UploadException thrown = assertThrows(UploadException.class, () ->
+            uploader.uploadArtifacts(artifacts, artifact -> {
+                attempt(artifact);
+                if (name(artifact).equals("a")) throw first;
+                if (name(artifact).equals("c")) throw second;
+            }));
+
+        // then:
+        assertThat(thrown.getMessage(), equalTo(RB.$("ERROR_uploads_failed", 2)));
+        assertThat(thrown.getCause(), sameInstance(first));
+        assertThat(thrown.getSuppressed(), arrayContaining(second));
+        assertThat(attempted, containsInAnyOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void uploadsInOrderWithASingleConnection() throws UploadException {
+        // given:
+        upload.setConnections(1);
+        List<Artifact> artifacts = artifacts("a", "b", "c");
+
+        // when:
+        uploader.uploadArtifacts(artifacts, this::attempt);
+
+        // then:
+        assertThat(attempted, equalTo(Arrays.asList("a", "b", "c")));
+    }
+
+    private void attempt(Artifact artifact) {
+        attempted.add(name(artifact));
+    }
+
+    private static String name(Artifact artifact) {
+        return artifact.getEffectivePath().getFileName().toString();
+    }
+
+    private static List<Artifact> artifacts(String... names) {
+        List<Artifact> artifacts = new ArrayList<>();
+        for (String name : names) {
+            artifacts.add(Artifact.of(Paths.get(name)));
+        }
+        return artifacts;
+    }
+
+    private static final class StubUploader extends AbstractArtifactUploader<org.jreleaser.model.api.upload.FtpUploader, FtpUploader> {
+        private FtpUploader uploader;
+
+        private StubUploader(JReleaserContext context) {
+            super(context);
+        }
+
+        @Override
+        public FtpUploader getUploader() {
+            return uploader;
+        }
+
+        @Override
+        public void setUploader(FtpUploader uploader) {
+            this.uploader = uploader;
+        }
+
+        @Override
+        public String getType() {
+            return "stub";
+        }
+
+        @Override
+        public void upload(String name) {
+            // noop
+        }
+    }
+}
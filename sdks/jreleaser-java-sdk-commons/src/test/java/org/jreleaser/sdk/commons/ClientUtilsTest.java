@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import com.sun.net.httpserver.HttpServer;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.spi.upload.UploadException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class ClientUtilsTest {
+    private static final int FILE_SIZE = 1024 * 1024 + 17;
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    @Test
+    public void uploadBodyIsRepeatableAndMatchesTheFile(@TempDir Path tmp) throws IOException {
+        // given:
+        Path file = file(tmp);
+
+        // when:
+        UploadBody body = ClientUtils.toUploadBody(file);
+
+        // then:
+        byte[] expected = Files.readAllBytes(file);
+        assertThat(body.getFileName(), equalTo("asset.bin"));
+        assertThat(body.getContentLength(), equalTo((long) FILE_SIZE));
+        assertThat(read(body), equalTo(expected));
+        assertThat(read(body), equalTo(expected));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        assertThat(out.toByteArray(), equalTo(expected));
+    }
+
+    @Test
+    public void uploadEntityStreamsTheFileInChunks(@TempDir Path tmp) throws IOException {
+        // given:
+        Path file = file(tmp);
+        UploadBody body = ClientUtils.toUploadBody(file);
+        ChunkRecordingOutputStream out = new ChunkRecordingOutputStream();
+
+        // when:
+        ClientUtils.UploadBodyEntity entity = new ClientUtils.UploadBodyEntity(body, body.getContentLength());
+        entity.writeTo(out);
+
+        // then:
+        assertThat(entity.isRepeatable(), equalTo(true));
+        assertThat(entity.getContentLength(), equalTo((long) FILE_SIZE));
+        assertThat(out.total, equalTo((long) FILE_SIZE));
+        assertThat(out.largestWrite, lessThanOrEqualTo(COPY_BUFFER_SIZE));
+    }
+
+    @Test
+    public void postAndPutSendTheFileAsIs(@TempDir Path tmp) throws IOException, UploadException {
+        // given:
+        Path file = file(tmp);
+        Map<String, Request> requests = new ConcurrentHashMap<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            Request request = new Request();
+            request.contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+            request.transferEncoding = exchange.getRequestHeaders().getFirst("Transfer-Encoding");
+            try (InputStream in = exchange.getRequestBody()) {
+                request.body = readAll(in);
+            }
+            requests.put(exchange.getRequestMethod(), request);
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/asset.bin";
+        SimpleJReleaserLoggerAdapter logger = new SimpleJReleaserLoggerAdapter(new ByteArrayOutputStream());
+
+        // when:
+        try {
+            ClientUtils.postFile(logger, url, 20, 60, ClientUtils.toUploadBody(file), new LinkedHashMap<>());
+            ClientUtils.putFile(logger, url, 20, 60, ClientUtils.toUploadBody(file), new LinkedHashMap<>());
+        } finally {
+            server.stop(0);
+        }
+
+        // then:
+        byte[] expected = Files.readAllBytes(file);
+        for (String method : new String[]{"POST", "PUT"}) {
+            Request request = requests.get(method);
+            assertThat(request.contentLength, equalTo(String.valueOf(FILE_SIZE)));
+            assertThat(request.transferEncoding, nullValue());
+            assertThat(request.body, equalTo(expected));
+        }
+    }
+
+    private static Path file(Path tmp) throws IOException {
+        byte[] content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        return Files.write(tmp.resolve("asset.bin"), content);
+    }
+
+    private static byte[] read(UploadBody body) throws IOException {
+        try (InputStream in = body.openStream()) {
+            return readAll(in);
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static final class Request {
+        private String contentLength;
+        private String transferEncoding;
+        private byte[] body;
+    }
+
+    private static final class ChunkRecordingOutputStream extends OutputStream {
+        private long total;
+        private int largestWrite;
+
+        @Override
+        public void write(int b) {
+            total++;
+            largestWrite = Math.max(largestWrite, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            total += len;
+            largestWrite = Math.max(largestWrite, len);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.apache.http.client.utils.DateUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public class RequestSchedulerTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_HOLD = TimeUnit.SECONDS.toNanos(60);
+
+    @Test
+    public void tokenBucketQueuesRequestsOnceBurstIsSpent() {
+        // given:
+        RequestScheduler.HostState state = new RequestScheduler.HostState(10, 2);
+        long now = System.nanoTime();
+
+        // when:
+        long first = state.reserve(now);
+        long second = state.reserve(now);
+        long third = state.reserve(now);
+        long fourth = state.reserve(now);
+
+        // then:
+        assertThat(first, equalTo(0L));
+        assertThat(second, equalTo(0L));
+        assertThat(third, equalTo(SECOND / 10));
+        assertThat(fourth, equalTo(2 * SECOND / 10));
+        assertThat(state.reserve(now + SECOND), equalTo(0L));
+    }
+
+    @Test
+    public void lowQuotaSpreadsRemainingRequestsUntilReset() {
+        // given:
+        RequestScheduler.HostState state = new RequestScheduler.HostState(10, 20);
+        long now = System.nanoTime();
+
+        // when:
+        state.update(new RequestScheduler.RateLimit(-1L, 5L, 100L, 10 * SECOND), now, MAX_HOLD);
+
+        // then:
+        assertThat(state.reserve(now), equalTo(0L));
+        assertThat(state.reserve(now), equalTo(2 * SECOND));
+    }
+
+    @Test
+    public void exhaustedQuotaHoldsRequestsUntilReset() {
+        // given:
+        RequestScheduler.HostState state = new RequestScheduler.HostState(10, 20);
+        long now = System.nanoTime();
+
+        // when:
+        state.update(new RequestScheduler.RateLimit(-1L, 0L, 100L, 30 * SECOND), now, MAX_HOLD);
+
+        // then:
+        assertThat(state.reserve(now), equalTo(30 * SECOND));
+    }
+
+    @Test
+    public void holdsLongerThanMaxHoldAreIgnored() {
+        // given:
+        RequestScheduler.HostState state = new RequestScheduler.HostState(10, 20);
+        long now = System.nanoTime();
+
+        // when:
+        state.update(new RequestScheduler.RateLimit(120 * SECOND, 0L, 100L, 120 * SECOND), now, MAX_HOLD);
+
+        // then:
+        assertThat(state.reserve(now), equalTo(0L));
+    }
+
+    @Test
+    public void resetIsReadAsDeltaSeconds() {
+        // given:
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("RateLimit-Reset", "30");
+
+        // when:
+        RequestScheduler.RateLimit limit = RequestScheduler.RateLimit.of(headers::get);
+
+        // then:
+        assertThat(limit.reset, equalTo(30 * SECOND));
+    }
+
+    @Test
+    public void resetIsReadAsEpochSeconds() {
+        // given:
+        long epochSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 30;
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("X-RateLimit-Reset", String.valueOf(epochSeconds));
+
+        // when:
+        RequestScheduler.RateLimit limit = RequestScheduler.RateLimit.of(headers::get);
+
+        // then:
+        assertThat(limit.reset, allOf(greaterThanOrEqualTo(29 * SECOND), lessThanOrEqualTo(30 * SECOND)));
+    }
+
+    @Test
+    public void retryAfterIsReadAsSeconds() {
+        // given:
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Retry-After", "5");
+
+        // when:
+        RequestScheduler.RateLimit limit = RequestScheduler.RateLimit.of(headers::get);
+
+        // then:
+        assertThat(limit.retryAfter, equalTo(5 * SECOND));
+    }
+
+    @Test
+    public void retryAfterIsReadAsHttpDate() {
+        // given:
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Retry-After", DateUtils.formatDate(new Date(System.currentTimeMillis() + 10_000L)));
+
+        // when:
+        RequestScheduler.RateLimit limit = RequestScheduler.RateLimit.of(headers::get);
+
+        // then:
+        // HTTP dates have a resolution of one second
+        assertThat(limit.retryAfter, allOf(greaterThan(8 * SECOND), lessThanOrEqualTo(10 * SECOND)));
+    }
+
+    @Test
+    public void gatewayErrorsAreRetriedForIdempotentRequestsOnly() {
+        // given:
+        RequestScheduler scheduler = new RequestScheduler(5, SECOND / 2, MAX_HOLD, 10, 20);
+        RequestScheduler.RateLimit none = RequestScheduler.RateLimit.of(name -> null);
+
+        // when:
+        long get = scheduler.retryDelay("GET", 502, none, 1);
+
+        // then:
+        assertThat(get, allOf(greaterThanOrEqualTo(SECOND / 4), lessThanOrEqualTo(SECOND / 2)));
+        assertThat(scheduler.retryDelay("POST", 502, none, 1), equalTo(-1L));
+        assertThat(scheduler.retryDelay("POST", 504, none, 1), equalTo(-1L));
+        assertThat(scheduler.retryDelay("POST", 503, none, 1), greaterThanOrEqualTo(0L));
+    }
+
+    @Test
+    public void forbiddenIsRetriedOnlyWhenRateLimited() {
+        // given:
+        RequestScheduler scheduler = new RequestScheduler(5, SECOND / 2, MAX_HOLD, 10, 20);
+        RequestScheduler.RateLimit none = RequestScheduler.RateLimit.of(name -> null);
+        RequestScheduler.RateLimit exhausted = new RequestScheduler.RateLimit(-1L, 0L, 100L, 10 * SECOND);
+
+        // when:
+        long forbidden = scheduler.retryDelay("POST", 403, none, 1);
+        long limited = scheduler.retryDelay("POST", 403, exhausted, 1);
+
+        // then:
+        assertThat(forbidden, equalTo(-1L));
+        assertThat(limited, equalTo(10 * SECOND));
+        assertThat(scheduler.retryDelay("POST", 429, none, 1), greaterThanOrEqualTo(0L));
+    }
+
+    @Test
+    public void retryAfterAboveMaxRetryDelayFailsFast() {
+        // given:
+        RequestScheduler scheduler = new RequestScheduler(5, SECOND / 2, MAX_HOLD, 10, 20);
+
+        // when:
+        long within = scheduler.retryDelay("POST", 429, new RequestScheduler.RateLimit(30 * SECOND, -1L, -1L, -1L), 1);
+        long beyond = scheduler.retryDelay("POST", 429, new RequestScheduler.RateLimit(120 * SECOND, -1L, -1L, -1L), 1);
+
+        // then:
+        assertThat(within, equalTo(30 * SECOND));
+        assertThat(beyond, equalTo(-1L));
+    }
+}
@@ -29,7 +29,6 @@ import feign.auth.BasicAuthRequestInterceptor;
 import feign.codec.DecodeException;
 import feign.codec.Decoder;
 import feign.codec.ErrorDecoder;
-import feign.form.FormData;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import net.jodah.failsafe.Failsafe;
@@ -41,6 +40,7 @@ import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.UploadBody;
 import org.jreleaser.sdk.nexus2.api.Data;
 import org.jreleaser.sdk.nexus2.api.NexusAPI;
 import org.jreleaser.sdk.nexus2.api.NexusAPIException;
@@ -48,6 +48,7 @@ import org.jreleaser.sdk.nexus2.api.PromoteRequest;
 import org.jreleaser.sdk.nexus2.api.StagedRepository;
 import org.jreleaser.sdk.nexus2.api.StagingProfile;
 import org.jreleaser.sdk.nexus2.api.StagingProfileRepository;
+import org.jreleaser.util.Tracer;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -111,6 +112,7 @@ public class Nexus2 {
         this.readTimeout = readTimeout;
         this.retrier = new Retrier(logger, transitionDelay, transitionMaxRetries);
         this.api = Feign.builder()
+            .client(ClientUtils.client(logger))
             .encoder(new JacksonEncoder())
             .decoder(new ContentNegotiationDecoder())
             .requestInterceptor(new BasicAuthRequestInterceptor(username, password))
@@ -215,7 +217,7 @@ public class Nexus2 {
         logger.debug(" - " + RB.$("nexus.deploy.artifact", filename, path, filename));
 
         try {
-            FormData data = ClientUtils.toFormData(file);
+            UploadBody data = ClientUtils.toUploadBody(file);
 
             Map<String, String> headers = new LinkedHashMap<>();
 
@@ -306,7 +308,8 @@ public class Nexus2 {
                 .onFailedAttempt(event -> {
                     logger.info(RB.$("nexus.retry.attempt"), event.getAttemptCount(), maxAttempts);
                     logger.debug(RB.$("nexus.retry.failed.attempt"), event.getAttemptCount(), maxAttempts, event.getLastResult());
-                });
+                })
+                .onRetry(event -> Tracer.httpRetry());
             return Failsafe.with(policy).get(retriableOperation);
         }
     }
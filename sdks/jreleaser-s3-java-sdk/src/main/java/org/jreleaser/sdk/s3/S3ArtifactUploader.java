@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.s3;
 
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
@@ -25,11 +26,11 @@ import com.amazonaws.auth.BasicSessionCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
-import com.amazonaws.services.s3.model.AccessControlList;
-import com.amazonaws.services.s3.model.GroupGrantee;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.Permission;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
@@ -38,15 +39,15 @@ import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.upload.S3Uploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
+import org.jreleaser.util.Algorithm;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
 
-import static java.nio.file.StandardOpenOption.READ;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -57,6 +58,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public class S3ArtifactUploader extends AbstractArtifactUploader<org.jreleaser.model.api.upload.S3Uploader, S3Uploader> {
     private static final Tika TIKA = new Tika();
+    private static final String SHA256_METADATA = "sha256";
     private S3Uploader uploader;
 
     public S3ArtifactUploader(JReleaserContext context) {
@@ -97,40 +99,88 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<org.jreleaser.m
             s3.createBucket(bucketName);
         }
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
+        long partSize = uploader.getPartSize() * 1024L * 1024L;
+        // the transfer manager is shared by all artifacts in flight, each one gets partConcurrency threads
+        Integer connections = context.getModel().getUpload().getConnections();
+        int transfers = Math.max(1, Math.min(null != connections ? connections : 1, artifacts.size()));
+        int poolSize = uploader.getPartConcurrency() * transfers;
+        TransferManager transferManager = TransferManagerBuilder.standard()
+            .withS3Client(s3)
+            .withMultipartUploadThreshold(partSize)
+            .withMinimumUploadPartSize(partSize)
+            .withExecutorFactory(() -> Executors.newFixedThreadPool(poolSize))
+            .build();
 
-            try {
-                String bucketPath = uploader.getResolvedPath(context, artifact);
-                context.getLogger().debug("   {}", bucketPath);
-
-                if (!context.isDryrun()) {
-                    context.getLogger().debug(RB.$("s3.object.check"), bucketName, bucketPath);
-                    if (s3.doesObjectExist(bucketName, bucketPath)) {
-                        context.getLogger().debug(RB.$("s3.object.create"), bucketName, bucketPath);
-                        s3.deleteObject(bucketName, bucketPath);
+        try {
+            uploadArtifacts(artifacts, artifact -> {
+                Path path = artifact.getEffectivePath(context);
+                context.getLogger().info(" - {}", path.getFileName());
+
+                try {
+                    String bucketPath = uploader.getResolvedPath(context, artifact);
+                    context.getLogger().debug("   {}", bucketPath);
+
+                    if (!context.isDryrun()) {
+                        String sha256 = artifact.getHash(Algorithm.SHA_256);
+                        if (isBlank(sha256)) {
+                            sha256 = context.getChecksumIndex().checksum(Algorithm.SHA_256, path);
+                        }
+
+                        context.getLogger().debug(RB.$("s3.object.check"), bucketName, bucketPath);
+                        ObjectMetadata existing = getObjectMetadata(s3, bucketName, bucketPath);
+                        if (null != existing && isUnchanged(existing, path, sha256)) {
+                            context.getLogger().debug(RB.$("s3.object.unchanged"), bucketName, bucketPath);
+                            return;
+                        }
+
+                        ObjectMetadata meta = new ObjectMetadata();
+                        meta.setContentType(MediaType.parse(TIKA.detect(path)).toString());
+                        meta.addUserMetadata(SHA256_METADATA, sha256);
+
+                        // objects are overwritten in place, the READ grant travels with the upload itself
+                        context.getLogger().debug(RB.$("s3.object.write"), bucketName, bucketPath);
+                        transferManager.upload(new PutObjectRequest(bucketName, bucketPath, path.toFile())
+                                .withMetadata(meta)
+                                .withCannedAcl(CannedAccessControlList.PublicRead))
+                            .waitForCompletion();
                     }
+                } catch (IOException e) {
+                    context.getLogger().trace(e);
+                    throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
+                }
+            });
+        } finally {
+            transferManager.shutdownNow(false);
+        }
+    }
 
-                    ObjectMetadata meta = new ObjectMetadata();
-                    meta.setContentType(MediaType.parse(TIKA.detect(path)).toString());
-                    meta.setContentLength(Files.size(path));
+    private ObjectMetadata getObjectMetadata(AmazonS3 s3, String bucketName, String bucketPath) {
+        try {
+            return s3.getObjectMetadata(bucketName, bucketPath);
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
 
-                    context.getLogger().debug(RB.$("s3.object.write"), bucketName, bucketPath);
-                    try (InputStream is = Files.newInputStream(path, READ)) {
-                        s3.putObject(new PutObjectRequest(bucketName, bucketPath, is, meta));
-                    }
+    private boolean isUnchanged(ObjectMetadata existing, Path path, String sha256) throws IOException {
+        String remoteSha256 = existing.getUserMetaDataOf(SHA256_METADATA);
+        if (isNotBlank(remoteSha256)) {
+            return sha256.equalsIgnoreCase(remoteSha256);
+        }
 
-                    context.getLogger().debug(RB.$("s3.object.acl"), bucketName, bucketPath);
-                    AccessControlList acl = s3.getObjectAcl(bucketName, bucketPath);
-                    acl.grantPermission(GroupGrantee.AllUsers, Permission.Read);
-                    s3.setObjectAcl(bucketName, bucketPath, acl);
-                }
-            } catch (IOException e) {
-                context.getLogger().trace(e);
-                throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
-            }
+        // objects written by a single PUT without KMS carry the MD5 of their contents as ETag;
+        // multipart ETags contain a '-' and can't be compared against the local file
+        String etag = existing.getETag();
+        if (isBlank(etag) || etag.contains("-") || existing.getContentLength() != Files.size(path)) {
+            return false;
         }
+        return etag.equalsIgnoreCase(context.getChecksumIndex().checksum(Algorithm.MD5, path));
     }
 
     private AmazonS3 createS3Client() throws UploadException {
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.signing;
+
+import org.bouncycastle.bcpg.HashAlgorithmTags;
+import org.bouncycastle.bcpg.PublicKeyAlgorithmTags;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPKeyPair;
+import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSignatureGenerator;
+import org.bouncycastle.openpgp.PGPSignatureList;
+import org.bouncycastle.openpgp.jcajce.JcaPGPObjectFactory;
+import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentSignerBuilder;
+import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentVerifierBuilderProvider;
+import org.bouncycastle.openpgp.operator.jcajce.JcaPGPKeyPair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.KeyPairGenerator;
+import java.security.Security;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares byte by byte signature verification with bulk updates.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SignatureVerificationBenchmark {
+    @Param({"1048576", "16777216", "134217728"})
+    private int size;
+
+    private Path file;
+    private PGPKeyPair keyPair;
+    private byte[] encodedSignature;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        if (null == Security.getProvider(BouncyCastleProvider.PROVIDER_NAME)) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+
+        file = Files.createTempFile("jreleaser-jmh", ".bin");
+        byte[] chunk = new byte[1024 * 1024];
+        new Random(42).nextBytes(chunk);
+        for (int written = 0; written < size; written += chunk.length) {
+            Files.write(file, chunk, StandardOpenOption.APPEND);
+        }
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA", BouncyCastleProvider.PROVIDER_NAME);
+        generator.initialize(2048);
+        keyPair = new JcaPGPKeyPair(PublicKeyAlgorithmTags.RSA_GENERAL, generator.generateKeyPair(), new Date());
+
+        PGPSignatureGenerator signatureGenerator = new PGPSignatureGenerator(
+            new JcaPGPContentSignerBuilder(PublicKeyAlgorithmTags.RSA_GENERAL, HashAlgorithmTags.SHA1)
+                .setProvider(BouncyCastleProvider.PROVIDER_NAME));
+        signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, keyPair.getPrivateKey());
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = in.read(buffer)) >= 0) {
+                signatureGenerator.update(buffer, 0, length);
+            }
+        }
+        encodedSignature = signatureGenerator.generate().getEncoded();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public boolean byteWise() throws Exception {
+        PGPSignature signature = initSignature();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            int ch;
+            while ((ch = in.read()) >= 0) {
+                signature.update((byte) ch);
+            }
+        }
+        return signature.verify();
+    }
+
+    @Benchmark
+    public boolean bulk() throws Exception {
+        PGPSignature signature = initSignature();
+        SigningUtils.update(signature, file);
+        return signature.verify();
+    }
+
+    private PGPSignature initSignature() throws IOException, PGPException {
+        PGPSignatureList signatures = (PGPSignatureList) new JcaPGPObjectFactory(encodedSignature).nextObject();
+        PGPSignature signature = signatures.get(0);
+        signature.init(new JcaPGPContentVerifierBuilderProvider()
+            .setProvider(BouncyCastleProvider.PROVIDER_NAME), keyPair.getPublicKey());
+        return signature;
+    }
+}
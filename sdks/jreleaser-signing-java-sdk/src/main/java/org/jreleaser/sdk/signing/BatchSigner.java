@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.signing;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.api.signing.SigningException;
+import org.jreleaser.util.Tracer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a signing operation over a batch of files using a bounded number of concurrent
+ * workers. Useful for operations that fork an external process per file, such as gpg
+ * or cosign, where process startup dominates the cost of signing.
+ * <p>
+ * Every file is processed even if some of them fail, outcomes are recorded on each
+ * {@code FilePair}. The first failure in input order is rethrown once all files are done.
+ *
+ * @author Andres Almiray
+ * @since 1.4.0
+ */
+public final class BatchSigner {
+    private final int parallelism;
+
+    public BatchSigner(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public void execute(List<SigningUtils.FilePair> files, Operation operation) throws SigningException {
+        if (parallelism == 1 || files.size() < 2) {
+            for (SigningUtils.FilePair pair : files) {
+                run(pair, operation);
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, files.size()));
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (SigningUtils.FilePair pair : files) {
+                    futures.add(executor.submit(Tracer.inherit(() -> run(pair, operation))));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                throw new SigningException(RB.$("ERROR_unexpected_error_signing"), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SigningException(RB.$("ERROR_unexpected_error_signing"), e);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        for (SigningUtils.FilePair pair : files) {
+            if (null != pair.getFailure()) {
+                throw pair.getFailure();
+            }
+        }
+    }
+
+    private static void run(SigningUtils.FilePair pair, Operation operation) {
+        try {
+            operation.execute(pair);
+            pair.setFailure(null);
+        } catch (SigningException e) {
+            pair.setValid(false);
+            pair.setFailure(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Operation {
+        void execute(SigningUtils.FilePair pair) throws SigningException;
+    }
+}
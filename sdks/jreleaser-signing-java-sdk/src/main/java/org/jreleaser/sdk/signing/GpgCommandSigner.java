@@ -24,6 +24,7 @@ import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.command.CommandExecutor;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -31,6 +32,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardOpenOption.WRITE;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -102,6 +104,45 @@ public final class GpgCommandSigner {
             .executeCommand(cmd) == 0;
     }
 
+    /**
+     * Resolves the fingerprint of the key gpg signs with. When no key name is configured the
+     * key is only known if the secret keyring holds exactly one key, as gpg may otherwise pick
+     * any of them (e.g. {@code default-key} in gpg.conf).
+     *
+     * @return the fingerprint or {@code null} if the key can't be determined unambiguously.
+     * @since 1.4.0
+     */
+    public String resolveFingerprint() {
+        Command cmd = createListKeysCommand();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            if (new CommandExecutor(logger, true).executeCommandCapturing(cmd, out) != 0) {
+                return null;
+            }
+        } catch (CommandException e) {
+            return null;
+        }
+
+        String fingerprint = null;
+        int keys = 0;
+        boolean primary = false;
+        for (String line : new String(out.toByteArray(), UTF_8).split("\\R")) {
+            String[] fields = line.split(":", -1);
+            if ("pub".equals(fields[0]) || "sec".equals(fields[0])) {
+                keys++;
+                primary = true;
+            } else if ("fpr".equals(fields[0]) && primary && fields.length > 9) {
+                fingerprint = fields[9];
+                primary = false;
+            } else if (!"fpr".equals(fields[0])) {
+                primary = false;
+            }
+        }
+
+        return keys == 1 && isNotBlank(fingerprint) ? fingerprint : null;
+    }
+
     public byte[] sign(byte[] in) throws CommandException {
         try {
             Path input = Files.createTempFile("jreleaser", "sign-input");
@@ -151,6 +192,38 @@ public final class GpgCommandSigner {
         return cmd;
     }
 
+    private Command createListKeysCommand() {
+        Command cmd = new Command(executable);
+
+        if (isNotBlank(homeDir)) {
+            cmd.arg("--homedir")
+                .arg(homeDir);
+        }
+
+        if (!defaultKeyring) {
+            cmd.arg("--no-default-keyring");
+        }
+
+        if (isNotBlank(publicKeyring)) {
+            cmd.arg("--keyring")
+                .arg(publicKeyring);
+        }
+
+        cmd.arg("--batch")
+            .arg("--no-tty")
+            .arg("--with-colons")
+            .arg("--with-fingerprint");
+
+        if (isNotBlank(keyName)) {
+            cmd.arg("--list-keys")
+                .arg(keyName);
+        } else {
+            cmd.arg("--list-secret-keys");
+        }
+
+        return cmd;
+    }
+
     private Command createVerifyCommand() {
         Command cmd = new Command(executable)
             .args(args);
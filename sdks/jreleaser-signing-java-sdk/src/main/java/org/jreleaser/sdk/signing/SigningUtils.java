@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.signing;
 
+import org.apache.commons.codec.binary.Hex;
 import org.bouncycastle.bcpg.ArmoredOutputStream;
 import org.bouncycastle.bcpg.BCPGOutputStream;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
@@ -39,6 +40,7 @@ import org.jreleaser.model.api.signing.Keyring;
 import org.jreleaser.model.api.signing.Signing;
 import org.jreleaser.model.api.signing.SigningException;
 import org.jreleaser.sdk.command.CommandException;
+import org.jreleaser.util.SignatureLedger;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
@@ -47,8 +49,11 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.Provider;
 import java.security.Security;
 
@@ -59,6 +64,8 @@ import static org.bouncycastle.bcpg.CompressionAlgorithmTags.UNCOMPRESSED;
  * @since 0.1.0
  */
 public class SigningUtils {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     static {
         // replace BC provider with our version
         Provider bcProvider = Security.getProvider("BC");
@@ -121,6 +128,20 @@ public class SigningUtils {
             context.getLogger().debug("{}",
                 context.relativizeToBasedir(filePair.signatureFile));
 
+            return verifySignature(context, keyring, filePair);
+        } finally {
+            context.getLogger().restorePrefix();
+        }
+    }
+
+    /**
+     * Verifies the signature of the given pair without touching the logger's prefix,
+     * suitable for use by concurrent workers.
+     *
+     * @since 1.4.0
+     */
+    public static boolean verifySignature(JReleaserContext context, Keyring keyring, FilePair filePair) throws SigningException {
+        try {
             InputStream sigInputStream = PGPUtil.getDecoderStream(
                 new BufferedInputStream(
                     new FileInputStream(filePair.signatureFile.toFile())));
@@ -137,26 +158,34 @@ public class SigningUtils {
                 pgpSigList = (Iterable<?>) obj;
             }
 
-            InputStream fileInputStream = new BufferedInputStream(new FileInputStream(filePair.inputFile.toFile()));
             PGPSignature sig = (PGPSignature) pgpSigList.iterator().next();
             PGPPublicKey pubKey = keyring.readPublicKey();
             sig.init(new JcaPGPContentVerifierBuilderProvider()
                 .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
 
-            int ch;
-            while ((ch = fileInputStream.read()) >= 0) {
-                sig.update((byte) ch);
-            }
+            update(sig, filePair.inputFile);
 
-            fileInputStream.close();
             sigInputStream.close();
 
             return sig.verify();
         } catch (IOException | PGPException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.inputFile)), e);
-        } finally {
-            context.getLogger().restorePrefix();
+        }
+    }
+
+    /**
+     * Feeds the contents of the given file to the signature in bulk, avoiding per byte updates.
+     */
+    static void update(PGPSignature signature, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // heap buffer, its backing array is handed over without an extra copy
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                signature.update(buffer.array(), 0, buffer.limit());
+                buffer.clear();
+            }
         }
     }
 
@@ -167,13 +196,24 @@ public class SigningUtils {
             context.getLogger().debug("{}",
                 context.relativizeToBasedir(filePair.signatureFile));
 
-            GpgCommandSigner commandSigner = initCommandSigner(context);
+            return verifySignature(context, initCommandSigner(context), filePair);
+        } finally {
+            context.getLogger().restorePrefix();
+        }
+    }
+
+    /**
+     * Verifies the signature of the given pair with gpg without touching the logger's prefix,
+     * suitable for use by concurrent workers.
+     *
+     * @since 1.4.0
+     */
+    public static boolean verifySignature(JReleaserContext context, GpgCommandSigner commandSigner, FilePair filePair) throws SigningException {
+        try {
             return commandSigner.verify(filePair.signatureFile, filePair.inputFile);
         } catch (CommandException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.inputFile)), e);
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -213,19 +253,41 @@ public class SigningUtils {
     }
 
     public static PGPSignatureGenerator initSignatureGenerator(Signing signing, Keyring keyring) throws SigningException {
+        return initSignatureGenerator(keyring, extractPrivateKey(signing, keyring));
+    }
+
+    /**
+     * Decrypts the signing key. The result may be shared by several signature generators.
+     *
+     * @since 1.4.0
+     */
+    public static PGPPrivateKey extractPrivateKey(Signing signing, Keyring keyring) throws SigningException {
         try {
             PGPSecretKey pgpSecretKey = keyring.getSecretKey();
 
-            PGPPrivateKey pgpPrivKey = pgpSecretKey.extractPrivateKey(
+            return pgpSecretKey.extractPrivateKey(
                 new JcePBESecretKeyDecryptorBuilder()
                     .setProvider(BouncyCastleProvider.PROVIDER_NAME)
                     .build(signing.getPassphrase().toCharArray()));
+        } catch (PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+        }
+    }
+
+    /**
+     * Creates a signature generator for an already decrypted key.
+     *
+     * @since 1.4.0
+     */
+    public static PGPSignatureGenerator initSignatureGenerator(Keyring keyring, PGPPrivateKey privateKey) throws SigningException {
+        try {
+            PGPSecretKey pgpSecretKey = keyring.getSecretKey();
 
             PGPSignatureGenerator signatureGenerator = new PGPSignatureGenerator(
                 new JcaPGPContentSignerBuilder(pgpSecretKey.getPublicKey().getAlgorithm(), PGPUtil.SHA1)
                     .setProvider(BouncyCastleProvider.PROVIDER_NAME));
 
-            signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, pgpPrivKey);
+            signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, privateKey);
 
             return signatureGenerator;
         } catch (PGPException e) {
@@ -245,19 +307,18 @@ public class SigningUtils {
             PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
             BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out));
 
-            FileInputStream in = new FileInputStream(input.toFile());
-
-            byte[] buffer = new byte[8192];
-            int length = 0;
-            while ((length = in.read(buffer)) >= 0) {
-                signatureGenerator.update(buffer, 0, length);
+            try (InputStream in = Files.newInputStream(input)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int length = 0;
+                while ((length = in.read(buffer)) >= 0) {
+                    signatureGenerator.update(buffer, 0, length);
+                }
             }
 
             signatureGenerator.generate().encode(bOut);
 
             compressionStreamGenerator.close();
 
-            in.close();
             out.flush();
             out.close();
         } catch (IOException | PGPException e) {
@@ -266,6 +327,15 @@ public class SigningUtils {
     }
 
     public static boolean isValid(JReleaserContext context, FilePair pair) {
+        return isValid(context, pair, null);
+    }
+
+    /**
+     * Checks the signature of the given pair, consulting the ledger first if not {@code null}.
+     *
+     * @since 1.4.0
+     */
+    public static boolean isValid(JReleaserContext context, FilePair pair, SignatureLedger ledger) {
         if (Files.notExists(pair.getSignatureFile())) {
             context.getLogger().debug(RB.$("signing.signature.not.exist"),
                 context.relativizeToBasedir(pair.getSignatureFile()));
@@ -279,16 +349,32 @@ public class SigningUtils {
             return false;
         }
 
+        String fingerprint = null != ledger ? keyFingerprint(context, ledger) : null;
+        if (null != ledger && ledger.isVerified(pair.getInputFile(), pair.getSignatureFile(), fingerprint)) {
+            return true;
+        }
+
         try {
-            return verify(context, pair);
+            boolean valid = verify(context, pair);
+            if (valid && null != ledger) ledger.record(pair.getInputFile(), pair.getSignatureFile(), fingerprint);
+            return valid;
         } catch (SigningException e) {
             return false;
         }
     }
 
     public static boolean isValid(JReleaserContext context, Keyring keyring, SigningUtils.FilePair pair) {
+        return isValid(context, keyring, pair, null);
+    }
+
+    /**
+     * Checks the signature of the given pair, consulting the ledger first if not {@code null}.
+     *
+     * @since 1.4.0
+     */
+    public static boolean isValid(JReleaserContext context, Keyring keyring, SigningUtils.FilePair pair, SignatureLedger ledger) {
         if (null == keyring) {
-            return isValid(context, pair);
+            return isValid(context, pair, ledger);
         }
 
         if (Files.notExists(pair.getSignatureFile())) {
@@ -305,16 +391,47 @@ public class SigningUtils {
         }
 
         try {
-            return verify(context, keyring, pair);
+            String fingerprint = null != ledger ? keyFingerprint(keyring) : null;
+            if (null != ledger && ledger.isVerified(pair.getInputFile(), pair.getSignatureFile(), fingerprint)) {
+                return true;
+            }
+
+            boolean valid = verify(context, keyring, pair);
+            if (valid && null != ledger) ledger.record(pair.getInputFile(), pair.getSignatureFile(), fingerprint);
+            return valid;
         } catch (SigningException e) {
             return false;
         }
     }
 
+    /**
+     * Identifies the key used for signing in memory/file mode.
+     *
+     * @since 1.4.0
+     */
+    public static String keyFingerprint(Keyring keyring) throws SigningException {
+        return Hex.encodeHexString(keyring.readPublicKey().getFingerprint());
+    }
+
+    /**
+     * Identifies the key used for signing in command mode. The fingerprint is asked to gpg once
+     * per ledger, {@code null} is returned when gpg can't tell which key it signs with.
+     *
+     * @since 1.4.0
+     */
+    public static String keyFingerprint(JReleaserContext context, SignatureLedger ledger) {
+        Signing.Command command = context.getModel().getSigning().getCommand();
+        String selector = "gpg:" + command.getExecutable() + ":" + command.getKeyName() + ":" +
+            command.getHomeDir() + ":" + command.getPublicKeyring() + ":" + command.isDefaultKeyring();
+        return ledger.keyFingerprint(selector,
+            () -> initCommandSigner(context).resolveFingerprint());
+    }
+
     public static class FilePair {
         private final Path inputFile;
         private final Path signatureFile;
         private boolean valid;
+        private SigningException failure;
 
         public FilePair(Path inputFile, Path signatureFile) {
             this.inputFile = inputFile;
@@ -340,5 +457,13 @@ public class SigningUtils {
         public boolean isInvalid() {
             return !valid;
         }
+
+        public SigningException getFailure() {
+            return failure;
+        }
+
+        public void setFailure(SigningException failure) {
+            this.failure = failure;
+        }
     }
 }